@@ -0,0 +1,150 @@
+package org.jmgrgo.taskapp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time from launching the application to its first successful login, for the plain executable jar
+ * and for the startup build: AOT processed, lazily initialized and run with the JVM AOT cache.
+ * <p>
+ * Each operation starts a new JVM with its own in-memory database, registers a user as soon as the
+ * server accepts connections and logs it in; the operation ends with that login. Build both before
+ * running, from the project directory:
+ * <pre>
+ * ./mvnw -Pstartup -DskipTests verify
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="StartupBenchmark"
+ * </pre>
+ * The {@code AOT_CACHE} mode should start measurably faster; a regression against {@code JAR}
+ * usually means the training run no longer covers what the first login loads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String PASSWORD = "Benchmark-Password-1";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+
+    @Param({"JAR", "AOT_CACHE"})
+    private Launch launch;
+
+    private HttpClient client;
+    private Process process;
+
+    public enum Launch {
+        JAR {
+            @Override
+            List<String> command() throws IOException {
+                return List.of("-jar", jar(Path.of("target")).toString());
+            }
+        },
+        AOT_CACHE {
+            @Override
+            List<String> command() throws IOException {
+                Path directory = Path.of("target", "startup");
+                return List.of(
+                        "-XX:AOTCache=" + directory.resolve("taskapp.aot"),
+                        "-Dspring.aot.enabled=true",
+                        "-Dspring.main.lazy-initialization=true",
+                        "-jar", jar(directory).toString());
+            }
+        };
+
+        abstract List<String> command() throws IOException;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    @Benchmark
+    public int firstLogin() throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch.command());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1");
+        command.add("--logging.level.root=WARN");
+        process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        URI base = URI.create("http://localhost:" + port + "/api/auth/");
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                post(base.resolve("register"), 201);
+                return post(base.resolve("login"), 200);
+            } catch (ConnectException e) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Application did not start: " + launch, e);
+                }
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private int post(URI uri, int expectedStatus) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"startup@example.com\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != expectedStatus) {
+            throw new IllegalStateException("POST " + uri.getPath() + " answered " + status);
+        }
+        return status;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * @return the application jar in {@code directory}, as built by the package phase
+     */
+    private static Path jar(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("taskapp-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No application jar in " + directory + ", package it first"));
+        }
+    }
+}
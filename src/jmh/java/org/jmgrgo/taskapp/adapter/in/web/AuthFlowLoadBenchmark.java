@@ -0,0 +1,110 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.TaskAppApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency percentiles of the register and login endpoints over HTTP, with request
+ * handling on platform threads and on virtual threads.
+ * <p>
+ * Each trial boots the whole application on a random port with its own in-memory database, so
+ * the numbers include the servlet container, the connection pool and the password hashing pool.
+ * Hashing runs at {@code strength} so the request threads, not BCrypt, are what saturates; compare
+ * the {@code p0.99} rows of the sample-time results between the two {@code virtualThreads} values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AuthFlowLoadBenchmark {
+
+    private static final String PASSWORD = "Benchmark-Password-1";
+    private static final int LOGIN_USERS = 1000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param("4")
+    private int strength;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI registerUri;
+    private URI loginUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(TaskAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:auth-load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=200",
+                        "taskapp.password-hashing.strength=" + strength,
+                        "taskapp.password-hashing.minimum-strength=" + strength,
+                        "taskapp.password-hashing.queue-capacity=1024",
+                        "taskapp.auth-rate-limit.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        registerUri = URI.create("http://localhost:" + port + "/api/auth/register");
+        loginUri = URI.create("http://localhost:" + port + "/api/auth/login");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        for (int i = 0; i < LOGIN_USERS; i++) {
+            post(registerUri, loginEmail(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int register() throws IOException, InterruptedException {
+        return post(registerUri, "load-" + UUID.randomUUID() + "@example.com");
+    }
+
+    @Benchmark
+    public int login() throws IOException, InterruptedException {
+        return post(loginUri, loginEmail(ThreadLocalRandom.current().nextInt(LOGIN_USERS)));
+    }
+
+    private int post(URI uri, String email) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status >= 300) {
+            throw new IllegalStateException("POST " + uri.getPath() + " answered " + status);
+        }
+        return status;
+    }
+
+    private static String loginEmail(int i) {
+        return "login-" + i + "@example.com";
+    }
+}
@@ -0,0 +1,57 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of an allowed attempt through {@link AuthRateLimiter}, against the same attempt without it.
+ * <p>
+ * Limits are set so no attempt is ever rejected: this measures only the overhead every legitimate
+ * login pays. With {@code keys} at 1 all threads hit the same two buckets, the worst case for
+ * compare-and-set contention; with many keys they rarely meet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class AuthRateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    private int keys;
+
+    private AuthRateLimiter rateLimiter;
+    private String[] addresses;
+    private String[] emails;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new AuthRateLimiter(
+                new TokenBucketRateLimiter(Integer.MAX_VALUE, Duration.ofNanos(1), 2 * keys, System::nanoTime),
+                new TokenBucketRateLimiter(Integer.MAX_VALUE, Duration.ofNanos(1), 2 * keys, System::nanoTime));
+        addresses = new String[keys];
+        emails = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            addresses[i] = "10.0." + (i >>> 8) + "." + (i & 0xff);
+            emails[i] = "user" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public String baseline() {
+        int i = ThreadLocalRandom.current().nextInt(keys);
+        return addresses[i] + emails[i];
+    }
+
+    @Benchmark
+    public String allowed() {
+        int i = ThreadLocalRandom.current().nextInt(keys);
+        rateLimiter.acquire(addresses[i], emails[i]);
+        return addresses[i] + emails[i];
+    }
+}
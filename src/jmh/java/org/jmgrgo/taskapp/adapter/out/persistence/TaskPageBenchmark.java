@@ -0,0 +1,121 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fetching a deep page of one user's task list with keyset pagination
+ * ({@link JdbcTaskRepository#findPage}) and with {@code OFFSET}.
+ * <p>
+ * The user holds {@code taskCount} tasks; each operation reads the {@code pageSize} tasks that
+ * follow position {@code depth}. Keyset time stays flat as {@code depth} grows, offset time grows with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPageBenchmark {
+
+    private static final String INSERT_TASK = """
+            INSERT INTO tasks (id, user_id, title, due_date, completed, created_at, updated_at)
+            VALUES (?, ?, ?, ?, FALSE, ?, ?)
+            """;
+
+    private static final String SELECT_OFFSET = """
+            SELECT id, title FROM tasks
+            WHERE user_id = ?
+            ORDER BY due_date, id
+            OFFSET ? ROWS FETCH FIRST ? ROWS ONLY
+            """;
+
+    @Param("100000")
+    private int taskCount;
+
+    @Param({"0", "1000", "50000", "99000"})
+    private int depth;
+
+    @Param("50")
+    private int pageSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private JdbcTaskRepository repository;
+    private UserId userId;
+    private LocalDate afterDueDate;
+    private TaskId afterId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:tasks;DB_CLOSE_DELAY=-1", true);
+        dataSource.setAutoCommit(true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        repository = new JdbcTaskRepository(new NamedParameterJdbcTemplate(jdbc));
+
+        userId = UserId.newId();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbc.update("INSERT INTO users (id, email, status, created_at) VALUES (?, 'tasks@example.com', 'ACTIVE', ?)",
+                userId.value(), now);
+
+        // Spread tasks over a few years so many share a due date, as a real backlog does
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < taskCount; i++) {
+            rows.add(new Object[] {TaskId.newId().value(), userId.value(), "Task " + i,
+                    Date.valueOf(start.plusDays(i % 1000)), now, now});
+            if (rows.size() == 1000) {
+                jdbc.batchUpdate(INSERT_TASK, rows);
+                rows.clear();
+            }
+        }
+        jdbc.batchUpdate(INSERT_TASK, rows);
+        jdbc.execute("ANALYZE");
+
+        // The position a client would hold after paging down to depth
+        if (depth > 0) {
+            jdbc.query("""
+                    SELECT id, due_date FROM tasks
+                    WHERE user_id = ?
+                    ORDER BY due_date, id
+                    OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY
+                    """, rs -> {
+                afterId = new TaskId(rs.getObject("id", UUID.class));
+                afterDueDate = rs.getObject("due_date", LocalDate.class);
+            }, userId.value(), depth - 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbc.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Task> keyset() {
+        return repository.findPage(new TaskPageQuery(userId, null, null, null, null, afterDueDate, afterId, pageSize));
+    }
+
+    @Benchmark
+    public List<String> offset() {
+        return jdbc.query(SELECT_OFFSET, (rs, rowNum) -> rs.getString("title"), userId.value(), depth, pageSize);
+    }
+}
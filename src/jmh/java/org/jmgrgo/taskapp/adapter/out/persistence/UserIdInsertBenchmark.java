@@ -0,0 +1,109 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares insert throughput and primary key size of random (version 4) and time-ordered
+ * (version 7) user ids on a file-based database already holding {@code userCount} users.
+ * <p>
+ * Each operation inserts one batch of {@code batchSize} users. The on-disk size of the users
+ * table and its indexes is printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserIdInsertBenchmark {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, email, status, created_at)
+            VALUES (?, ?, 'ACTIVE', ?)
+            """;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private IdStrategy idStrategy;
+
+    @Param("1000000")
+    private int userCount;
+
+    @Param("1000")
+    private int batchSize;
+
+    private Path directory;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private long inserted;
+
+    public enum IdStrategy {
+        RANDOM {
+            @Override
+            UUID next() {
+                return UUID.randomUUID();
+            }
+        },
+        TIME_ORDERED {
+            @Override
+            UUID next() {
+                return UserId.newId().value();
+            }
+        };
+
+        abstract UUID next();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("user-id-benchmark");
+        dataSource = new SingleConnectionDataSource("jdbc:h2:file:" + directory.resolve("taskapp"), true);
+        dataSource.setAutoCommit(true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+
+        // Seed with the same strategy so the index already has the shape it would have in production
+        inserted = 0;
+        while (inserted < userCount) {
+            insertBatch();
+        }
+        jdbc.execute("CHECKPOINT SYNC");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        jdbc.execute("CHECKPOINT SYNC");
+        Long bytes = jdbc.queryForObject("SELECT DISK_SPACE_USED('USERS')", Long.class);
+        System.out.printf("%n%s ids: %,d users, users table and indexes use %,d KiB on disk%n",
+                idStrategy, inserted, bytes / 1024);
+
+        jdbc.execute("DROP ALL OBJECTS DELETE FILES");
+        dataSource.destroy();
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int[] insertBatch() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            rows.add(new Object[] {idStrategy.next(), "user" + inserted++ + "@example.com", now});
+        }
+        return jdbc.batchUpdate(INSERT_USER, rows);
+    }
+}
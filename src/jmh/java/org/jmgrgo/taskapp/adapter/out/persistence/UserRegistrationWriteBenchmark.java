@@ -0,0 +1,87 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the registration write path of {@link JdbcUserRepository}: the previous
+ * {@code existsByEmail} plus {@code save}, against a single {@code insert} relying on the unique
+ * email constraint, for both new and already registered emails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserRegistrationWriteBenchmark {
+
+    private static final PasswordHash PASSWORD_HASH =
+            PasswordHash.fromString("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6Y1gJmYVQ0bE6YH3UWv1eWe");
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcUserRepository repository;
+    private long registrations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:registration-benchmark;DB_CLOSE_DELAY=-1", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        repository = new JdbcUserRepository(
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        repository.insert(newUser("existing@example.com"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public User existsThenSave() {
+        User user = newUser("user" + registrations++ + "@example.com");
+        if (repository.existsByEmail(user.getEmail().value())) {
+            throw new EmailAlreadyExistsException("Email Already In Use");
+        }
+        return repository.save(user);
+    }
+
+    @Benchmark
+    public User insert() {
+        return repository.insert(newUser("user" + registrations++ + "@example.com"));
+    }
+
+    @Benchmark
+    public boolean existsDuplicate() {
+        return repository.existsByEmail("existing@example.com");
+    }
+
+    @Benchmark
+    public Object insertDuplicate() {
+        try {
+            return repository.insert(newUser("existing@example.com"));
+        } catch (EmailAlreadyExistsException e) {
+            return e;
+        }
+    }
+
+    private static User newUser(String email) {
+        return User.create(EmailAddress.fromString(email), PASSWORD_HASH, null, NOW);
+    }
+}
@@ -0,0 +1,78 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures email lookup latency of {@link JdbcUserRepository} against a table seeded with
+ * {@code userCount} users, to verify lookups stay a single unique-index probe at scale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserRepositoryLookupBenchmark {
+
+    private static final String BCRYPT_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6Y1gJmYVQ0bE6YH3UWv1eWe";
+
+    @Param("1000000")
+    private int userCount;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcUserRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:lookup-benchmark;DB_CLOSE_DELAY=-1", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        // Seed users inside the database to keep setup time reasonable
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("""
+                INSERT INTO users (id, email, email_verified, password_hash, status, roles, failed_login_attempts, created_at, updated_at)
+                SELECT RANDOM_UUID(), 'user' || X || '@example.com', FALSE, ?, 'ACTIVE', 1, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, BCRYPT_HASH, userCount);
+
+        repository = new JdbcUserRepository(
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public User findByEmailHit() {
+        return repository.findByEmail(randomEmail());
+    }
+
+    @Benchmark
+    public boolean existsByEmailHit() {
+        return repository.existsByEmail(randomEmail());
+    }
+
+    @Benchmark
+    public boolean existsByEmailMiss() {
+        return repository.existsByEmail("missing" + ThreadLocalRandom.current().nextInt(userCount) + "@example.com");
+    }
+
+    private String randomEmail() {
+        return "user" + (ThreadLocalRandom.current().nextInt(userCount) + 1) + "@example.com";
+    }
+}
@@ -0,0 +1,76 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures selecting one filtered page from the bitmap index of a user with {@code taskCount}
+ * tasks spread over {@code tagCount} tags, a third of them completed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserTaskIndexBenchmark {
+
+    @Param({"10000", "50000"})
+    private int taskCount;
+
+    @Param("20")
+    private int tagCount;
+
+    @Param("50")
+    private int pageSize;
+
+    private UserTaskIndex index;
+    private TaskPageQuery oneTagOpen;
+    private TaskPageQuery threeTagsCompleted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        UserId ownerId = UserId.newId();
+        TagId[] tags = new TagId[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tags[i] = new TagId(UUID.randomUUID());
+        }
+
+        index = new UserTaskIndex();
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        Instant now = Instant.now();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = Task.create(ownerId, TaskTitle.fromString("Task " + i),
+                    start.plusDays(random.nextInt(730)), tags[random.nextInt(tagCount)], now);
+            index.put(random.nextInt(3) == 0 ? task.toBuilder().completed(true).build() : task);
+        }
+
+        oneTagOpen = new TaskPageQuery(ownerId, false, Set.of(tags[0]), null, null, null, null, pageSize + 1);
+        threeTagsCompleted = new TaskPageQuery(ownerId, true, Set.of(tags[1], tags[2], tags[3]),
+                start.plusDays(90), start.plusDays(365), null, null, pageSize + 1);
+    }
+
+    @Benchmark
+    public List<TaskId> oneTagOpen() {
+        return index.select(oneTagOpen);
+    }
+
+    @Benchmark
+    public List<TaskId> threeTagsCompletedInRange() {
+        return index.select(threeTagsCompleted);
+    }
+}
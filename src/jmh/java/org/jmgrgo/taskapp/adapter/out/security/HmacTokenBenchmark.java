@@ -0,0 +1,60 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+import org.jmgrgo.taskapp.domain.user.value.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of issuing and verifying tokens with {@link HmacTokenService}.
+ * Run with {@code -prof gc} to see the allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HmacTokenBenchmark {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private HmacTokenService tokenService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new HmacTokenService(new byte[32], Duration.ofHours(1), () -> NOW);
+        user = User.create(
+                EmailAddress.fromString("benchmark@example.com"),
+                PasswordHash.fromString("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6Y1gJmYVQ0bE6YH3UWv1eWe"),
+                EnumSet.of(UserRole.USER, UserRole.PREMIUM),
+                NOW);
+        token = tokenService.generate(user);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String issue() {
+        return tokenService.generate(user);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public HmacTokenService.VerifiedToken verify() {
+        return tokenService.verify(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public HmacTokenService.VerifiedToken verifyForged() {
+        return tokenService.verify(token.substring(0, token.length() - 1) + 'A');
+    }
+}
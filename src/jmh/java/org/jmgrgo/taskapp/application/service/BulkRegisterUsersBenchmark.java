@@ -0,0 +1,104 @@
+package org.jmgrgo.taskapp.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcUserRepository;
+import org.jmgrgo.taskapp.adapter.out.security.BCryptPasswordHasher;
+import org.jmgrgo.taskapp.adapter.out.security.PasswordHashingExecutor;
+import org.jmgrgo.taskapp.application.dto.BulkRegisterUsersResult;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Users registered per second by {@link BulkRegisterUsersService} compared with a loop over
+ * {@link RegisterUserService}, both against the JDBC adapter and real BCrypt hashing.
+ * <p>
+ * Each operation is one user. Bulk registration is hashing bound, so the target is at least 80% of
+ * the hashing pool's capacity, that is {@code threads / single hash latency} at the given strength,
+ * while the sequential loop stays at {@code 1 / single hash latency}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkRegisterUsersBenchmark {
+
+    private static final int RECORDS = 1000;
+    private static final String PASSWORD = "correct-horse-battery";
+
+    @Param({"4", "10"})
+    private int strength;
+
+    @Param("500")
+    private int chunkSize;
+
+    private SingleConnectionDataSource dataSource;
+    private PasswordHashingExecutor executor;
+    private BulkRegisterUsersService bulkService;
+    private RegisterUserService registerService;
+    private int imports;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:bulk-benchmark;DB_CLOSE_DELAY=-1", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        JdbcUserRepository repository = new JdbcUserRepository(
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        executor = new PasswordHashingExecutor(threads, 64, new SimpleMeterRegistry());
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(strength, 4, strength, executor);
+        Clock clock = Instant::now;
+
+        bulkService = new BulkRegisterUsersService(repository, hasher, clock, chunkSize, RECORDS, RECORDS);
+        registerService = new RegisterUserService(repository, hasher, clock);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public BulkRegisterUsersResult bulk() {
+        return bulkService.registerUsers(commands().iterator());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int sequential() {
+        int registered = 0;
+        for (RegisterUserCommand command : commands()) {
+            registerService.registerUser(command);
+            registered++;
+        }
+        return registered;
+    }
+
+    private List<RegisterUserCommand> commands() {
+        int run = imports++;
+        List<RegisterUserCommand> commands = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            commands.add(new RegisterUserCommand("user" + run + "-" + i + "@example.com", PASSWORD));
+        }
+        return commands;
+    }
+}
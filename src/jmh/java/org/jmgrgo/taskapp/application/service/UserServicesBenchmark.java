@@ -0,0 +1,68 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.adapter.out.security.StripedLoginFailureTracker;
+import org.jmgrgo.taskapp.application.dto.LoginUserCommand;
+import org.jmgrgo.taskapp.application.dto.LoginUserResult;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.dto.RegisterUserResult;
+import org.jmgrgo.taskapp.application.exception.InvalidCredentialsException;
+import org.jmgrgo.taskapp.support.InMemoryUserRepository;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of {@link RegisterUserService} and {@link LoginUserService} with in-memory ports
+ * and without password hashing, isolating the application and domain layers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserServicesBenchmark {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String PASSWORD = "correct-horse-battery";
+
+    private final InMemoryUserRepository userRepository = new InMemoryUserRepository();
+    private RegisterUserService registerUserService;
+    private LoginUserService loginUserService;
+    private long registrations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PlainTextPasswordHasher passwordHasher = new PlainTextPasswordHasher();
+        registerUserService = new RegisterUserService(userRepository, passwordHasher, () -> NOW);
+        loginUserService = new LoginUserService(userRepository, passwordHasher, passwordHasher,
+                user -> "token", (userId, at) -> { }, new StripedLoginFailureTracker(64, 4096, () -> NOW), () -> NOW);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetUsers() {
+        userRepository.clear();
+        registerUserService.registerUser(new RegisterUserCommand("existing@example.com", PASSWORD));
+    }
+
+    @Benchmark
+    public RegisterUserResult register() {
+        return registerUserService.registerUser(new RegisterUserCommand("user" + registrations++ + "@example.com", PASSWORD));
+    }
+
+    @Benchmark
+    public LoginUserResult login() {
+        return loginUserService.loginUser(new LoginUserCommand("Existing@Example.com", PASSWORD));
+    }
+
+    @Benchmark
+    public Object loginUnknownEmail() {
+        try {
+            return loginUserService.loginUser(new LoginUserCommand("unknown@example.com", PASSWORD));
+        } catch (InvalidCredentialsException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.jmgrgo.taskapp.domain.user;
+
+import org.jmgrgo.taskapp.domain.user.value.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rebuilding a fully populated {@link User}, as done for every user loaded from storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserBuilderBenchmark {
+
+    private final UserId id = UserId.newId();
+    private final EmailAddress email = EmailAddress.fromString("jane.doe@example.com");
+    private final PasswordHash passwordHash = PasswordHash.fromString("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6Y1gJmYVQ0bE6YH3UWv1eWe");
+    private final Set<UserRole> roles = EnumSet.of(UserRole.USER, UserRole.PREMIUM);
+    private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Benchmark
+    public User build() {
+        return new User.Builder()
+                .id(id)
+                .email(email)
+                .emailVerified(true)
+                .emailUpdatedAt(now)
+                .passwordHash(passwordHash)
+                .passwordUpdatedAt(now)
+                .status(UserStatus.ACTIVE)
+                .roles(roles)
+                .createdAt(now)
+                .updatedAt(now)
+                .lastLoginAt(now)
+                .lastActiveAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package org.jmgrgo.taskapp.domain.user;
+
+import org.jmgrgo.taskapp.domain.user.value.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the role checks made per request: the set-based path roles were read through before
+ * they became a bitmask, against the bitmask path.
+ * <p>
+ * The set-based methods rebuild what {@code User} used to do: copy the role set on every read,
+ * walk it for a membership check and derive a token mask from one check per role. Run with
+ * {@code -prof gc}; the bitmask methods should allocate nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserRoleCheckBenchmark {
+
+    private final EnumSet<UserRole> roleSet = EnumSet.of(UserRole.USER, UserRole.PREMIUM);
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.create(
+                EmailAddress.fromString("jane.doe@example.com"),
+                PasswordHash.fromString("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6Y1gJmYVQ0bE6YH3UWv1eWe"),
+                roleSet,
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Benchmark
+    public boolean hasRoleSet() {
+        return Set.copyOf(roleSet).contains(UserRole.ADMIN);
+    }
+
+    @Benchmark
+    public boolean hasRoleMask() {
+        return user.hasRole(UserRole.ADMIN);
+    }
+
+    @Benchmark
+    public int tokenMaskFromSet() {
+        int mask = 0;
+        for (UserRole role : UserRole.values()) {
+            if (Set.copyOf(roleSet).contains(role)) {
+                mask |= 1 << role.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    @Benchmark
+    public int tokenMaskFromMask() {
+        return user.getRoleMask();
+    }
+
+    @Benchmark
+    public Set<UserRole> getRoles() {
+        return user.getRoles();
+    }
+}
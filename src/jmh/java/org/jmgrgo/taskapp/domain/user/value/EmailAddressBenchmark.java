@@ -0,0 +1,67 @@
+package org.jmgrgo.taskapp.domain.user.value;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Construction and validation cost of {@link EmailAddress}, against the trim, lower-case and
+ * regular expression approach it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailAddressBenchmark {
+
+    private static final Pattern LEGACY_PATTERN =
+            Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,63}$", Pattern.CASE_INSENSITIVE);
+
+    private String normalized = "jane.doe+tasks@example.com";
+    private String unnormalized = "  Jane.Doe+Tasks@Example.COM ";
+    private String invalid = "jane.doe@example";
+
+    @Benchmark
+    public EmailAddress fromNormalized() {
+        return EmailAddress.fromString(normalized);
+    }
+
+    @Benchmark
+    public EmailAddress fromUnnormalized() {
+        return EmailAddress.fromString(unnormalized);
+    }
+
+    @Benchmark
+    public boolean isValidValid() {
+        return EmailAddress.isValid(unnormalized);
+    }
+
+    @Benchmark
+    public boolean isValidInvalid() {
+        return EmailAddress.isValid(invalid);
+    }
+
+    @Benchmark
+    public String legacyNormalized() {
+        return legacyNormalize(normalized);
+    }
+
+    @Benchmark
+    public String legacyUnnormalized() {
+        return legacyNormalize(unnormalized);
+    }
+
+    @Benchmark
+    public boolean legacyIsValidInvalid() {
+        return legacyNormalize(invalid) != null;
+    }
+
+    private static String legacyNormalize(String email) {
+        String value = email.trim().toLowerCase(Locale.ROOT);
+        return !value.isBlank() && LEGACY_PATTERN.matcher(value).matches() ? value : null;
+    }
+}
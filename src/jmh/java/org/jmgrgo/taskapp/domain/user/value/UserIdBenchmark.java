@@ -0,0 +1,41 @@
+package org.jmgrgo.taskapp.domain.user.value;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation, parsing and validation cost of {@link UserId}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserIdBenchmark {
+
+    private String valid = "0190f5c6-3b1e-7c3a-9f4e-2d8b6a1c5e70";
+    private String invalid = "0190f5c6-3b1e-7c3a-9f4e-2d8b6a1c5eZZ";
+
+    @Benchmark
+    @Threads(4)
+    public UserId newId() {
+        return UserId.newId();
+    }
+
+    @Benchmark
+    public UserId fromString() {
+        return UserId.fromString(valid);
+    }
+
+    @Benchmark
+    public boolean isValidValid() {
+        return UserId.isValid(valid);
+    }
+
+    @Benchmark
+    public boolean isValidInvalid() {
+        return UserId.isValid(invalid);
+    }
+}
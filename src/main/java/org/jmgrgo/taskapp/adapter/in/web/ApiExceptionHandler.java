@@ -0,0 +1,76 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.application.exception.*;
+import org.jmgrgo.taskapp.domain.task.exception.InvalidTaskTitleException;
+import org.jmgrgo.taskapp.domain.user.exception.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps application and domain exceptions to problem detail responses.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler({
+            InvalidRegistrationDataException.class,
+            InvalidEmailFormatException.class,
+            InvalidPasswordFormatException.class,
+            InvalidTaskDataException.class,
+            InvalidTaskTitleException.class
+    })
+    public ProblemDetail handleBadRequest(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler({EmailAlreadyExistsException.class, EmailNotAvailableException.class, UserUpdateConflictException.class})
+    public ProblemDetail handleConflict(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    /**
+     * A locked account is rejected before its password is checked, so it gets the same answer as a
+     * wrong password: neither the lock nor a correct guess made during it shows in the response.
+     */
+    @ExceptionHandler({InvalidCredentialsException.class, UserIsDeletedException.class, UserIsLockedException.class})
+    public ProblemDetail handleUnauthorized(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+    }
+
+    @ExceptionHandler({UserNotFoundException.class, TaskNotFoundException.class})
+    public ProblemDetail handleNotFound(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleHashingUnavailable(PasswordHashingUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimited(RateLimitExceededException e) {
+
+        // Whole seconds, rounded up so a client retrying on time is allowed
+        long seconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()));
+    }
+
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ProblemDetail> handleConnectionUnavailable(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "Database connection capacity exceeded"));
+    }
+}
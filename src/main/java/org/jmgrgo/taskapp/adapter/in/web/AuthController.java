@@ -0,0 +1,47 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.jmgrgo.taskapp.application.dto.LoginUserCommand;
+import org.jmgrgo.taskapp.application.dto.LoginUserResult;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.dto.RegisterUserResult;
+import org.jmgrgo.taskapp.application.port.in.LoginUserUseCase;
+import org.jmgrgo.taskapp.application.port.in.RegisterUserUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * HTTP entry point for account registration and authentication.
+ * <p>
+ * Every attempt is rate limited by client address and email before it reaches a use case.
+ * The address is the connection's remote address, or the forwarded one when
+ * {@code server.forward-headers-strategy} trusts a proxy in front.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final RegisterUserUseCase registerUserUseCase;
+    private final LoginUserUseCase loginUserUseCase;
+    private final AuthRateLimiter rateLimiter;
+
+    public AuthController(RegisterUserUseCase registerUserUseCase, LoginUserUseCase loginUserUseCase,
+                          AuthRateLimiter rateLimiter) {
+        this.registerUserUseCase = registerUserUseCase;
+        this.loginUserUseCase = loginUserUseCase;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @PostMapping("/register")
+    @ResponseStatus(HttpStatus.CREATED)
+    public RegisterUserResult register(@RequestBody RegisterUserCommand command, HttpServletRequest request) {
+        rateLimiter.acquire(request.getRemoteAddr(), command.email());
+        return registerUserUseCase.registerUser(command);
+    }
+
+    @PostMapping("/login")
+    public LoginUserResult login(@RequestBody LoginUserCommand command, HttpServletRequest request) {
+        rateLimiter.acquire(request.getRemoteAddr(), command.email());
+        return loginUserUseCase.loginUser(command);
+    }
+}
@@ -0,0 +1,116 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.application.exception.RateLimitExceededException;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limits the authentication endpoints per client address and per email, before any password
+ * is hashed or any user is looked up.
+ * <p>
+ * The address limit bounds what one client can make the server do; the email limit protects one
+ * account from attempts spread over many addresses. An attempt needs a token from both buckets.
+ * IPv6 clients are keyed by their /64 prefix, since one subscriber is usually handed a whole /64
+ * and could otherwise take a fresh bucket per address. Emails are only trimmed and lower-cased,
+ * so variants of one address share a bucket even when they are not valid.
+ * <p>
+ * Either limit can be left out; with neither, every attempt is allowed.
+ */
+public class AuthRateLimiter implements MeterBinder {
+
+    private final TokenBucketRateLimiter byAddress;
+    private final TokenBucketRateLimiter byEmail;
+    private final LongAdder addressRejections = new LongAdder();
+    private final LongAdder emailRejections = new LongAdder();
+
+    /**
+     * @param byAddress the buckets per client address, or null for no address limit
+     * @param byEmail the buckets per email, or null for no email limit
+     */
+    public AuthRateLimiter(TokenBucketRateLimiter byAddress, TokenBucketRateLimiter byEmail) {
+        this.byAddress = byAddress;
+        this.byEmail = byEmail;
+    }
+
+    /**
+     * Takes one attempt from the buckets of {@code address} and {@code email}.
+     * @param address the client address
+     * @param email the email the attempt is for, as sent; null if missing
+     * @throws RateLimitExceededException if either bucket is empty
+     */
+    public void acquire(String address, String email) {
+        if (byAddress != null) {
+            long wait = byAddress.tryAcquire(addressKey(address));
+            if (wait > 0) {
+                addressRejections.increment();
+                throw new RateLimitExceededException("Too many attempts from this address", Duration.ofNanos(wait));
+            }
+        }
+        if (byEmail == null || email == null) return;
+
+        long wait = byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (wait > 0) {
+            emailRejections.increment();
+            throw new RateLimitExceededException("Too many attempts for this account", Duration.ofNanos(wait));
+        }
+    }
+
+    /**
+     * @return the IPv4 address as it is, or the /64 prefix of the IPv6 address
+     */
+    static String addressKey(String address) {
+        if (address == null || address.indexOf(':') < 0) return address;
+
+        InetAddress parsed;
+        try {
+            parsed = InetAddress.ofLiteral(address);
+        } catch (IllegalArgumentException e) {
+            return address;
+        }
+        if (!(parsed instanceof Inet6Address)) return parsed.getHostAddress();
+
+        byte[] bytes = parsed.getAddress();
+        StringBuilder key = new StringBuilder(24);
+        for (int i = 0; i < 8; i += 2) {
+            key.append(Integer.toHexString((bytes[i] & 0xff) << 8 | bytes[i + 1] & 0xff)).append(':');
+        }
+        return key.append(":/64").toString();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.rate-limit.rejected", addressRejections, LongAdder::sum)
+                .description("Authentication attempts rejected by a rate limit")
+                .tag("key", "address")
+                .register(registry);
+        FunctionCounter.builder("auth.rate-limit.rejected", emailRejections, LongAdder::sum)
+                .description("Authentication attempts rejected by a rate limit")
+                .tag("key", "email")
+                .register(registry);
+        if (byAddress != null) {
+            bindTo(registry, byAddress, "address");
+        }
+        if (byEmail != null) {
+            bindTo(registry, byEmail, "email");
+        }
+    }
+
+    private static void bindTo(MeterRegistry registry, TokenBucketRateLimiter limiter, String key) {
+        Gauge.builder("auth.rate-limit.keys", limiter, TokenBucketRateLimiter::size)
+                .description("Keys with a rate limit bucket of their own")
+                .tag("key", key)
+                .register(registry);
+        FunctionCounter.builder("auth.rate-limit.untracked", limiter, TokenBucketRateLimiter::untracked)
+                .description("Authentication attempts rejected because every bucket was in use")
+                .tag("key", key)
+                .register(registry);
+    }
+}
@@ -0,0 +1,107 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads {@code email,password} CSV lines one at a time as registration commands.
+ * <p>
+ * An optional {@code email,password} header is skipped, as are blank lines. Fields may be quoted,
+ * with {@code ""} standing for a quote inside a quoted field. A line that does not hold exactly two
+ * fields yields null, which the use case reports as a malformed record.
+ */
+class CsvRegisterUserCommands implements Iterator<RegisterUserCommand> {
+
+    private static final String HEADER = "email,password";
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private String nextLine;
+    private boolean started;
+
+    CsvRegisterUserCommands(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readLine();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public RegisterUserCommand next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        String line = nextLine;
+        nextLine = null;
+        return parse(line);
+    }
+
+    private String readLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                boolean first = !started;
+                started = true;
+                if (first && line.strip().equalsIgnoreCase(HEADER)) continue;
+
+                return line;
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the command held by the line, or null if it is not two well-formed fields
+     */
+    private RegisterUserCommand parse(String line) {
+        int end = parseField(line, 0);
+        if (end < 0 || end >= line.length() || line.charAt(end) != ',') return null;
+        String email = field.toString();
+
+        end = parseField(line, end + 1);
+        if (end != line.length()) return null;
+
+        return new RegisterUserCommand(email, field.toString());
+    }
+
+    /**
+     * Reads the field starting at {@code start} into {@link #field}.
+     * @return the index after the field, or -1 if a quoted field is not closed
+     */
+    private int parseField(String line, int start) {
+        field.setLength(0);
+        if (start >= line.length() || line.charAt(start) != '"') {
+            int end = line.indexOf(',', start);
+            end = end < 0 ? line.length() : end;
+            field.append(line, start, end);
+            return end;
+        }
+
+        int i = start + 1;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c != '"') {
+                field.append(c);
+            } else if (i < line.length() && line.charAt(i) == '"') {
+                field.append('"');
+                i++;
+            } else {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,63 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads newline-delimited JSON objects ({@code {"email": ..., "password": ...}}) one line at a time
+ * as registration commands.
+ * <p>
+ * Blank lines are skipped. A line that is not a valid object yields null, which the use case
+ * reports as a malformed record.
+ */
+class NdjsonRegisterUserCommands implements Iterator<RegisterUserCommand> {
+
+    private final BufferedReader reader;
+    private final ObjectReader commandReader;
+    private String nextLine;
+
+    NdjsonRegisterUserCommands(BufferedReader reader, ObjectReader commandReader) {
+        this.reader = reader;
+        this.commandReader = commandReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readLine();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public RegisterUserCommand next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        String line = nextLine;
+        nextLine = null;
+        try {
+            return commandReader.readValue(line);
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private String readLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) return line;
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
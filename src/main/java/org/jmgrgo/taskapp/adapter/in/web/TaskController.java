@@ -0,0 +1,80 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.application.dto.*;
+import org.jmgrgo.taskapp.application.port.in.CreateTaskUseCase;
+import org.jmgrgo.taskapp.application.port.in.DeleteTaskUseCase;
+import org.jmgrgo.taskapp.application.port.in.ListTasksUseCase;
+import org.jmgrgo.taskapp.application.port.in.UpdateTaskUseCase;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * HTTP entry point for the authenticated user's tasks.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+public class TaskController {
+
+    private final CreateTaskUseCase createTaskUseCase;
+    private final ListTasksUseCase listTasksUseCase;
+    private final UpdateTaskUseCase updateTaskUseCase;
+    private final DeleteTaskUseCase deleteTaskUseCase;
+
+    public TaskController(CreateTaskUseCase createTaskUseCase, ListTasksUseCase listTasksUseCase,
+                          UpdateTaskUseCase updateTaskUseCase, DeleteTaskUseCase deleteTaskUseCase) {
+        this.createTaskUseCase = createTaskUseCase;
+        this.listTasksUseCase = listTasksUseCase;
+        this.updateTaskUseCase = updateTaskUseCase;
+        this.deleteTaskUseCase = deleteTaskUseCase;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public TaskResult create(@AuthenticationPrincipal UserId userId, @RequestBody CreateTaskRequest request) {
+        return createTaskUseCase.createTask(
+                new CreateTaskCommand(userId.value(), request.title(), request.dueDate(), request.tagId()));
+    }
+
+    /**
+     * Lists tasks by due date. Pass the returned {@code nextCursor} as {@code cursor} to get the following page.
+     * Repeating {@code tag} lists the tasks associated with any of the given tags.
+     */
+    @GetMapping
+    public TaskPageResult list(@AuthenticationPrincipal UserId userId,
+                               @RequestParam(required = false) Boolean completed,
+                               @RequestParam(required = false) List<UUID> tag,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                               @RequestParam(required = false) String cursor,
+                               @RequestParam(required = false) Integer limit) {
+        return listTasksUseCase.listTasks(
+                new ListTasksQuery(userId.value(), completed, tag, dueFrom, dueTo, cursor, limit));
+    }
+
+    @PatchMapping("/{taskId}")
+    public TaskResult update(@AuthenticationPrincipal UserId userId, @PathVariable UUID taskId,
+                             @RequestBody UpdateTaskRequest request) {
+        return updateTaskUseCase.updateTask(new UpdateTaskCommand(userId.value(), taskId, request.title(),
+                request.dueDate(), request.tagId(), request.removeTag(), request.completed()));
+    }
+
+    @DeleteMapping("/{taskId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@AuthenticationPrincipal UserId userId, @PathVariable UUID taskId) {
+        deleteTaskUseCase.deleteTask(new DeleteTaskCommand(userId.value(), taskId));
+    }
+
+    public record CreateTaskRequest(String title, LocalDate dueDate, UUID tagId) {}
+
+    /**
+     * Fields left null are not changed; {@code removeTag} detaches the task from its tag.
+     */
+    public record UpdateTaskRequest(String title, LocalDate dueDate, UUID tagId, boolean removeTag, Boolean completed) {}
+}
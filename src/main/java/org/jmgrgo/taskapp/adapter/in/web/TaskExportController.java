@@ -0,0 +1,49 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.jmgrgo.taskapp.application.dto.ExportTasksQuery;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.application.port.in.ExportTasksUseCase;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/**
+ * HTTP entry point for exporting the authenticated user's tasks as NDJSON.
+ * <p>
+ * Each task is serialized straight to the response stream as it is read from the database, one
+ * page at a time. Writes block while the client is not reading, which in turn delays the next
+ * page, so memory use stays the same however many tasks are exported.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+public class TaskExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ExportTasksUseCase exportTasksUseCase;
+    private final ObjectWriter taskWriter;
+
+    public TaskExportController(ExportTasksUseCase exportTasksUseCase, JsonMapper jsonMapper) {
+        this.exportTasksUseCase = exportTasksUseCase;
+        this.taskWriter = jsonMapper.writerFor(TaskResult.class).withRootValueSeparator("\n");
+    }
+
+    @GetMapping(path = "/export", produces = NDJSON)
+    public void export(@AuthenticationPrincipal UserId userId, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"");
+
+        try (SequenceWriter writer = taskWriter.writeValues(response.getOutputStream())) {
+            exportTasksUseCase.exportTasks(new ExportTasksQuery(userId.value()), writer::write);
+        }
+    }
+}
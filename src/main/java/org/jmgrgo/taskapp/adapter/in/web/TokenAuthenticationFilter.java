@@ -0,0 +1,71 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jmgrgo.taskapp.adapter.out.security.HmacTokenService;
+import org.jmgrgo.taskapp.adapter.out.security.HmacTokenService.VerifiedToken;
+import org.jmgrgo.taskapp.domain.user.value.UserRole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying a bearer token issued by {@link HmacTokenService}.
+ * <p>
+ * Verification is purely cryptographic: the principal is the token's {@code UserId} and the
+ * authorities come from its role bitmask, without loading the user. Requests without a valid
+ * token continue unauthenticated and are rejected by the authorization rules if needed.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // Authority lists for every role combination, indexed by role bitmask
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK = authoritiesByMask();
+
+    private final HmacTokenService tokenService;
+
+    public TokenAuthenticationFilter(HmacTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            VerifiedToken token = tokenService.verify(header.substring(BEARER_PREFIX.length()));
+            if (token != null && (token.roleMask() & ~UserRole.ALL) == 0) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        token.userId(), null, AUTHORITIES_BY_MASK.get(token.roleMask())));
+                SecurityContextHolder.setContext(context);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static List<List<GrantedAuthority>> authoritiesByMask() {
+        List<List<GrantedAuthority>> byMask = new ArrayList<>(UserRole.ALL + 1);
+        for (int mask = 0; mask <= UserRole.ALL; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (UserRole role : UserRole.fromMask(mask)) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            }
+            byMask.add(List.copyOf(authorities));
+        }
+        return List.copyOf(byMask);
+    }
+}
@@ -0,0 +1,120 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets keyed by string, for example by client address.
+ * <p>
+ * Each bucket holds up to {@code capacity} tokens and gains one every {@code refillInterval}.
+ * Rather than a token count and a refill time, a bucket stores a single instant: the time at which
+ * it would be full again. Taking a token moves that instant one interval later, and is allowed
+ * while it stays within {@code capacity} intervals of now; so each attempt is one read and one
+ * compare-and-set, with no lock and no background refill.
+ * <p>
+ * A bucket that is full again carries no state, so it is dropped once the map holds
+ * {@code maximumKeys} buckets. If none can be dropped, a new key is turned away until some can,
+ * while the keys already tracked keep their own buckets: a flood of distinct keys neither grows
+ * the map nor takes the tokens of the clients it was already tracking.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maximumKeys;
+    private final LongSupplier nanoTime;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * @param capacity the number of attempts allowed in a burst
+     * @param refillInterval the time after which one more attempt is allowed
+     * @param maximumKeys the number of keys tracked before idle ones are dropped
+     * @param nanoTime the monotonic time source, {@link System#nanoTime()} outside tests
+     */
+    public TokenBucketRateLimiter(int capacity, Duration refillInterval, int maximumKeys, LongSupplier nanoTime) {
+        if (capacity < 1 || refillInterval.isNegative() || refillInterval.isZero() || maximumKeys < 1) {
+            throw new IllegalArgumentException("Invalid token bucket settings");
+        }
+        this.intervalNanos = refillInterval.toNanos();
+        this.burstNanos = Math.multiplyExact(intervalNanos, capacity);
+        this.maximumKeys = maximumKeys;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Takes a token from the bucket of {@code key}.
+     * @return zero if the attempt is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoTime.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key, now);
+
+            // Every tracked bucket is full again within one burst, and can then be dropped
+            if (bucket == null) {
+                untracked.increment();
+                return burstNanos;
+            }
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt - now, 0) + now + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) return wait;
+            if (bucket.compareAndSet(fullAt, next)) return 0;
+        }
+    }
+
+    /**
+     * @return the number of keys with a bucket of their own
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * @return the attempts turned away because their key found no room for a bucket
+     */
+    public long untracked() {
+        return untracked.sum();
+    }
+
+    /**
+     * @return the new bucket of {@code key}, or null if there is no room for it
+     */
+    private AtomicLong register(String key, long now) {
+        if (buckets.size() >= maximumKeys) {
+            sweep(now);
+            if (buckets.size() >= maximumKeys) return null;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    /**
+     * Drops the buckets that are full again. One caller sweeps at a time; the others go on.
+     * A caller still holding a dropped bucket may take its token from it, so a key can get at most
+     * one attempt more than its capacity across a sweep.
+     */
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            Iterator<AtomicLong> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().get() - now <= 0) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
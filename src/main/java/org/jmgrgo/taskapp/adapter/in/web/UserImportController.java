@@ -0,0 +1,49 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.application.dto.BulkRegisterUsersResult;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.port.in.BulkRegisterUsersUseCase;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP entry point for bulk user registration, streaming the request body into the use case
+ * so an import is never held in memory as a whole.
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final BulkRegisterUsersUseCase bulkRegisterUsersUseCase;
+    private final ObjectReader commandReader;
+
+    public UserImportController(BulkRegisterUsersUseCase bulkRegisterUsersUseCase, JsonMapper jsonMapper) {
+        this.bulkRegisterUsersUseCase = bulkRegisterUsersUseCase;
+        this.commandReader = jsonMapper.readerFor(RegisterUserCommand.class);
+    }
+
+    @PostMapping(path = "/import", consumes = "text/csv")
+    public BulkRegisterUsersResult importCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return bulkRegisterUsersUseCase.registerUsers(new CsvRegisterUserCommands(reader));
+        }
+    }
+
+    @PostMapping(path = "/import", consumes = NDJSON)
+    public BulkRegisterUsersResult importNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return bulkRegisterUsersUseCase.registerUsers(new NdjsonRegisterUserCommands(reader, commandReader));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.dto.BulkRegisterUsersResult;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.port.in.BulkRegisterUsersUseCase;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link BulkRegisterUsersUseCase}.
+ */
+public class MeteredBulkRegisterUsersUseCase implements BulkRegisterUsersUseCase {
+
+    private final BulkRegisterUsersUseCase delegate;
+    private final MethodMetrics registerUsers;
+
+    public MeteredBulkRegisterUsersUseCase(BulkRegisterUsersUseCase delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registerUsers = metrics.method("BulkRegisterUsersUseCase", "registerUsers");
+    }
+
+    @Override
+    public BulkRegisterUsersResult registerUsers(Iterator<RegisterUserCommand> commands) {
+        return registerUsers.record(() -> delegate.registerUsers(commands));
+    }
+}
@@ -0,0 +1,25 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.port.out.Clock;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link Clock}.
+ */
+public class MeteredClock implements Clock {
+
+    private final Clock delegate;
+    private final MethodMetrics now;
+
+    public MeteredClock(Clock delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.now = metrics.method("Clock", "now");
+    }
+
+    @Override
+    public Instant now() {
+        return now.record(() -> delegate.now());
+    }
+}
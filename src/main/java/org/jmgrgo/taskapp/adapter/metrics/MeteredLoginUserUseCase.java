@@ -0,0 +1,29 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.dto.LoginUserCommand;
+import org.jmgrgo.taskapp.application.dto.LoginUserResult;
+import org.jmgrgo.taskapp.application.port.in.LoginUserUseCase;
+
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link LoginUserUseCase}.
+ * <p>
+ * Errors are counted by exception type, so rejected logins show up as
+ * {@code InvalidCredentialsException} or {@code UserIsLockedException}.
+ */
+public class MeteredLoginUserUseCase implements LoginUserUseCase {
+
+    private final LoginUserUseCase delegate;
+    private final MethodMetrics loginUser;
+
+    public MeteredLoginUserUseCase(LoginUserUseCase delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.loginUser = metrics.method("LoginUserUseCase", "loginUser");
+    }
+
+    @Override
+    public LoginUserResult loginUser(LoginUserCommand command) {
+        return loginUser.record(() -> delegate.loginUser(command));
+    }
+}
@@ -0,0 +1,40 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.port.out.PasswordHasher;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link PasswordHasher}.
+ */
+public class MeteredPasswordHasher implements PasswordHasher {
+
+    private final PasswordHasher delegate;
+    private final MethodMetrics hash;
+    private final MethodMetrics needsRehash;
+    private final MethodMetrics hashAll;
+
+    public MeteredPasswordHasher(PasswordHasher delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.hash = metrics.method("PasswordHasher", "hash");
+        this.needsRehash = metrics.method("PasswordHasher", "needsRehash");
+        this.hashAll = metrics.method("PasswordHasher", "hashAll");
+    }
+
+    @Override
+    public PasswordHash hash(String rawPassword) {
+        return hash.record(() -> delegate.hash(rawPassword));
+    }
+
+    @Override
+    public boolean needsRehash(PasswordHash passwordHash) {
+        return needsRehash.record(() -> delegate.needsRehash(passwordHash));
+    }
+
+    @Override
+    public List<PasswordHash> hashAll(List<String> rawPasswords) {
+        return hashAll.record(() -> delegate.hashAll(rawPasswords));
+    }
+}
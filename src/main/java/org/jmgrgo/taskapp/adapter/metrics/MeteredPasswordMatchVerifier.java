@@ -0,0 +1,25 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.port.out.PasswordMatchVerifier;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link PasswordMatchVerifier}.
+ */
+public class MeteredPasswordMatchVerifier implements PasswordMatchVerifier {
+
+    private final PasswordMatchVerifier delegate;
+    private final MethodMetrics matches;
+
+    public MeteredPasswordMatchVerifier(PasswordMatchVerifier delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.matches = metrics.method("PasswordMatchVerifier", "matches");
+    }
+
+    @Override
+    public boolean matches(String rawPassword, PasswordHash hash) {
+        return matches.record(() -> delegate.matches(rawPassword, hash));
+    }
+}
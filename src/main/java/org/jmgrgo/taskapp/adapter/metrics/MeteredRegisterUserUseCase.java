@@ -0,0 +1,26 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.dto.RegisterUserResult;
+import org.jmgrgo.taskapp.application.port.in.RegisterUserUseCase;
+
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link RegisterUserUseCase}.
+ */
+public class MeteredRegisterUserUseCase implements RegisterUserUseCase {
+
+    private final RegisterUserUseCase delegate;
+    private final MethodMetrics registerUser;
+
+    public MeteredRegisterUserUseCase(RegisterUserUseCase delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registerUser = metrics.method("RegisterUserUseCase", "registerUser");
+    }
+
+    @Override
+    public RegisterUserResult registerUser(RegisterUserCommand command) {
+        return registerUser.record(() -> delegate.registerUser(command));
+    }
+}
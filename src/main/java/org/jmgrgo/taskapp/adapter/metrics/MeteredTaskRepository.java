@@ -0,0 +1,72 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link TaskRepository}.
+ */
+public class MeteredTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final MethodMetrics save;
+    private final MethodMetrics findById;
+    private final MethodMetrics findAllById;
+    private final MethodMetrics forEachOwnedBy;
+    private final MethodMetrics delete;
+    private final MethodMetrics findPage;
+
+    /**
+     * @param port the name to report under, so the same port can be measured at several layers
+     */
+    public MeteredTaskRepository(TaskRepository delegate, PortMetrics metrics, String port) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.save = metrics.method(port, "save");
+        this.findById = metrics.method(port, "findById");
+        this.findAllById = metrics.method(port, "findAllById");
+        this.forEachOwnedBy = metrics.method(port, "forEachOwnedBy");
+        this.delete = metrics.method(port, "delete");
+        this.findPage = metrics.method(port, "findPage");
+    }
+
+    @Override
+    public Task save(Task task) {
+        return save.record(() -> delegate.save(task));
+    }
+
+    @Override
+    public Task findById(UserId ownerId, TaskId id) {
+        return findById.record(() -> delegate.findById(ownerId, id));
+    }
+
+    @Override
+    public List<Task> findAllById(UserId ownerId, Collection<TaskId> ids) {
+        return findAllById.record(() -> delegate.findAllById(ownerId, ids));
+    }
+
+    /**
+     * Measures the whole stream, including the time {@code action} takes.
+     */
+    @Override
+    public void forEachOwnedBy(UserId ownerId, Consumer<Task> action) {
+        forEachOwnedBy.run(() -> delegate.forEachOwnedBy(ownerId, action));
+    }
+
+    @Override
+    public boolean delete(UserId ownerId, TaskId id) {
+        return delete.record(() -> delegate.delete(ownerId, id));
+    }
+
+    @Override
+    public List<Task> findPage(TaskPageQuery query) {
+        return findPage.record(() -> delegate.findPage(query));
+    }
+}
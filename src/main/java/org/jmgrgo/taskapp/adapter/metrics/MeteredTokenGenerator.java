@@ -0,0 +1,25 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.port.out.TokenGenerator;
+import org.jmgrgo.taskapp.domain.user.User;
+
+import java.util.Objects;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link TokenGenerator}.
+ */
+public class MeteredTokenGenerator implements TokenGenerator {
+
+    private final TokenGenerator delegate;
+    private final MethodMetrics generate;
+
+    public MeteredTokenGenerator(TokenGenerator delegate, PortMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.generate = metrics.method("TokenGenerator", "generate");
+    }
+
+    @Override
+    public String generate(User user) {
+        return generate.record(() -> delegate.generate(user));
+    }
+}
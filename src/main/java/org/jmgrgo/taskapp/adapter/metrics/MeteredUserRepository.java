@@ -0,0 +1,73 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.jmgrgo.taskapp.domain.user.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Records latency, errors and in-flight calls of a {@link UserRepository}.
+ */
+public class MeteredUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final MethodMetrics save;
+    private final MethodMetrics insert;
+    private final MethodMetrics mightBeRegistered;
+    private final MethodMetrics existsByEmail;
+    private final MethodMetrics findByEmail;
+    private final MethodMetrics findRegisteredEmails;
+    private final MethodMetrics insertAll;
+
+    /**
+     * @param port the name to report under, so the same port can be measured at several layers
+     */
+    public MeteredUserRepository(UserRepository delegate, PortMetrics metrics, String port) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.save = metrics.method(port, "save");
+        this.insert = metrics.method(port, "insert");
+        this.mightBeRegistered = metrics.method(port, "mightBeRegistered");
+        this.existsByEmail = metrics.method(port, "existsByEmail");
+        this.findByEmail = metrics.method(port, "findByEmail");
+        this.findRegisteredEmails = metrics.method(port, "findRegisteredEmails");
+        this.insertAll = metrics.method(port, "insertAll");
+    }
+
+    @Override
+    public User save(User user) {
+        return save.record(() -> delegate.save(user));
+    }
+
+    @Override
+    public User insert(User user) {
+        return insert.record(() -> delegate.insert(user));
+    }
+
+    @Override
+    public boolean mightBeRegistered(String email) {
+        return mightBeRegistered.record(() -> delegate.mightBeRegistered(email));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return existsByEmail.record(() -> delegate.existsByEmail(email));
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        return findByEmail.record(() -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        return findRegisteredEmails.record(() -> delegate.findRegisteredEmails(emails));
+    }
+
+    @Override
+    public List<User> insertAll(List<User> users) {
+        return insertAll.record(() -> delegate.insertAll(users));
+    }
+}
@@ -0,0 +1,127 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Latency, error and concurrency meters of one port method.
+ * <p>
+ * Calls are measured by passing them to {@link #record(Supplier)} or {@link #run(Runnable)}.
+ * The latency histogram and percentiles are kept in lock-free, time-windowed HDR histograms, so the
+ * record path only reads the clock and updates atomic counters.
+ */
+public final class MethodMetrics {
+
+    private final MeterRegistry registry;
+    private final String port;
+    private final String method;
+    private final Timer latency;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+    MethodMetrics(MeterRegistry registry, String port, String method) {
+        this.registry = registry;
+        this.port = port;
+        this.method = method;
+        this.latency = Timer.builder("port.latency")
+                .description("Time spent in an outbound or inbound port call")
+                .tag("port", port)
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("port.in.flight", inFlight, AtomicInteger::get)
+                .description("Port calls currently running")
+                .tag("port", port)
+                .tag("method", method)
+                .register(registry);
+    }
+
+    /**
+     * Measures one call; a call that throws is counted as an error by exception type.
+     * @return the result of {@code call}
+     */
+    public <T> T record(Supplier<T> call) {
+        long start = start();
+        try {
+            T result = call.get();
+            success(start);
+            return result;
+        } catch (RuntimeException | Error e) {
+            failure(start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Measures one call that returns nothing, as {@link #record(Supplier)} does.
+     */
+    public void run(Runnable call) {
+        long start = start();
+        try {
+            call.run();
+            success(start);
+        } catch (RuntimeException | Error e) {
+            failure(start, e);
+            throw e;
+        }
+    }
+
+    public String port() {
+        return port;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public Timer latency() {
+        return latency;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of failed calls by exception simple name
+     */
+    public Map<String, Long> errors() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((type, counter) -> counts.merge(type.getSimpleName(), (long) counter.count(), Long::sum));
+        return counts;
+    }
+
+    private long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    private void success(long start) {
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        inFlight.decrementAndGet();
+    }
+
+    private void failure(long start, Throwable error) {
+        success(start);
+        errors.computeIfAbsent(error.getClass(), this::errorCounter).increment();
+    }
+
+    private Counter errorCounter(Class<?> type) {
+        return Counter.builder("port.errors")
+                .description("Port calls that ended with an exception")
+                .tag("port", port)
+                .tag("method", method)
+                .tag("exception", type.getSimpleName())
+                .register(registry);
+    }
+}
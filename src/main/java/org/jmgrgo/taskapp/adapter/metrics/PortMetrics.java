@@ -0,0 +1,41 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the per-method meters shared by the metered port decorators.
+ * <p>
+ * Meters are created once per port and method, so several decorators around the same port
+ * report into the same latency histogram, error counters and in-flight gauge.
+ */
+public class PortMetrics {
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    public PortMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    /**
+     * @param port the port name, usually the simple name of its interface
+     * @param method the method name
+     * @return the meters of this method, created on first use
+     */
+    public MethodMetrics method(String port, String method) {
+        return methods.computeIfAbsent(port + '.' + method, key -> new MethodMetrics(registry, port, method));
+    }
+
+    /**
+     * @return the meters of every instrumented method
+     */
+    public Collection<MethodMetrics> methods() {
+        return Collections.unmodifiableCollection(methods.values());
+    }
+}
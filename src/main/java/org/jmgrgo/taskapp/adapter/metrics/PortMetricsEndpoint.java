@@ -0,0 +1,57 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint ({@code /actuator/ports}) summarizing every instrumented port method, so the
+ * time of a slow request can be read off as database, hashing and token signing time at a glance.
+ */
+@Endpoint(id = "ports")
+public class PortMetricsEndpoint {
+
+    private final PortMetrics metrics;
+
+    public PortMetricsEndpoint(PortMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @ReadOperation
+    public List<MethodSummary> ports() {
+        return metrics.methods().stream()
+                .sorted(Comparator.comparing(MethodMetrics::port).thenComparing(MethodMetrics::method))
+                .map(PortMetricsEndpoint::summarize)
+                .toList();
+    }
+
+    private static MethodSummary summarize(MethodMetrics method) {
+        HistogramSnapshot snapshot = method.latency().takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            percentiles.put("p" + Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return new MethodSummary(method.port(), method.method(), snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS), percentiles,
+                method.inFlight(), method.errors());
+    }
+
+    /**
+     * Latency summary of one port method, in milliseconds.
+     * @param count the number of calls
+     * @param meanMs the mean latency
+     * @param maxMs the maximum latency in the current window
+     * @param percentilesMs the latency percentiles in the current window
+     * @param inFlight the calls currently running
+     * @param errors the failed calls by exception type
+     */
+    public record MethodSummary(String port, String method, long count, double meanMs, double maxMs,
+                                Map<String, Double> percentilesMs, int inFlight, Map<String, Long> errors) {}
+}
@@ -0,0 +1,86 @@
+package org.jmgrgo.taskapp.adapter.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records virtual threads that stay pinned to their carrier thread, from the JFR
+ * {@code jdk.VirtualThreadPinned} event.
+ * <p>
+ * A pinned virtual thread blocks its carrier, so enough of them at once stall every other
+ * virtual thread. Monitors no longer pin, but native frames and class initializers still do.
+ * Each pinning longer than the threshold is timed and logged with the top of its stack, so a
+ * regression shows up in the metrics before it shows up as latency.
+ */
+public class VirtualThreadPinningMonitor implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    /**
+     * @param threshold the shortest pinning recorded
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = Objects.requireNonNull(threshold);
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        if (stream != null) return;
+
+        Timer pinned = Timer.builder("threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier, above the reporting threshold")
+                .register(registry);
+
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, event -> {
+            pinned.record(event.getDuration());
+            log.warn("Virtual thread {} pinned for {} ms{}", threadName(event),
+                    event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+        });
+        stream.startAsync();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private static String threadName(RecordedEvent event) {
+        return event.getThread() == null ? "?" : event.getThread().getJavaName();
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "";
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder trace = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            trace.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return trace.toString();
+    }
+}
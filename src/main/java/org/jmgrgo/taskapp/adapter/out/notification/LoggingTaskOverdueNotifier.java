@@ -0,0 +1,36 @@
+package org.jmgrgo.taskapp.adapter.out.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.application.port.out.TaskOverdueNotifier;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TaskOverdueNotifier} that logs each overdue transition, until users have a delivery channel.
+ */
+public class LoggingTaskOverdueNotifier implements TaskOverdueNotifier, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingTaskOverdueNotifier.class);
+
+    private final LongAdder notified = new LongAdder();
+
+    @Override
+    public void taskOverdue(UserId ownerId, TaskId taskId, LocalDate dueDate) {
+        notified.increment();
+        log.info("Task {} of user {} is overdue since {}", taskId, ownerId, dueDate.plusDays(1));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tasks.overdue.notified", notified, LongAdder::sum)
+                .description("Tasks that passed their due date while open")
+                .register(registry);
+    }
+}
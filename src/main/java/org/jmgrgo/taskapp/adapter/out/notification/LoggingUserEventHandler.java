@@ -0,0 +1,61 @@
+package org.jmgrgo.taskapp.adapter.out.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.application.port.out.UserEventHandler;
+import org.jmgrgo.taskapp.domain.user.event.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link UserEventHandler} that logs each user event, until events have real consumers.
+ */
+public class LoggingUserEventHandler implements UserEventHandler, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingUserEventHandler.class);
+
+    private final LongAdder registered = new LongAdder();
+    private final LongAdder loggedIn = new LongAdder();
+    private final LongAdder locked = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+
+    @Override
+    public void handle(UserEvent event) {
+        switch (event) {
+            case UserRegistered e -> {
+                registered.increment();
+                log.info("User {} registered at {}", e.userId(), e.occurredAt());
+            }
+            case LoginSucceeded e -> {
+                loggedIn.increment();
+                log.debug("User {} logged in at {}", e.userId(), e.occurredAt());
+            }
+            case AccountLocked e -> {
+                locked.increment();
+                log.info("User {} was locked at {} until {}", e.userId(), e.occurredAt(), e.lockedUntil());
+            }
+            case UserDeleted e -> {
+                deleted.increment();
+                log.info("User {} was deleted at {}", e.userId(), e.occurredAt());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "UserRegistered", registered);
+        bind(registry, "LoginSucceeded", loggedIn);
+        bind(registry, "AccountLocked", locked);
+        bind(registry, "UserDeleted", deleted);
+    }
+
+    private static void bind(MeterRegistry registry, String type, LongAdder count) {
+        FunctionCounter.builder("users.events.handled", count, LongAdder::sum)
+                .description("User events handled by the logging handler")
+                .tag("type", type)
+                .register(registry);
+    }
+}
@@ -0,0 +1,240 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link UserRepository} decorator answering definite "email not registered" results from an
+ * in-memory Bloom filter, so only possible duplicates reach the delegate's {@code existsByEmail}.
+ * <p>
+ * The filter only learns about emails saved through this instance or present at the last
+ * {@link #rebuild()}. Registrations made by other instances are still rejected by the unique
+ * email constraint on {@link #insert(User)}, which also teaches the filter about them.
+ * <p>
+ * Once the filter holds more emails than it was sized for, its false positive rate climbs and more
+ * checks reach the database, so it is rebuilt in the background, at twice the size, from every
+ * registered email. Its load is exported as {@code users.email.filter.load}.
+ */
+public class BloomFilteredUserRepository implements UserRepository, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomFilteredUserRepository.class);
+
+    private final UserRepository delegate;
+    private final RegisteredEmails registeredEmails;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Executor rebuildExecutor;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile EmailBloomFilter filter;
+    private volatile EmailBloomFilter rebuilding;
+
+    private final LongAdder skippedProbes = new LongAdder();
+    private final LongAdder checkedProbes = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * Creates the decorator and warms the filter from {@code registeredEmails}.
+     * @param delegate the authoritative repository
+     * @param registeredEmails the source used to (re)build the filter
+     * @param expectedInsertions the minimum number of emails the filter is sized for
+     * @param falsePositiveRate the target false positive rate
+     * @param rebuildExecutor runs the rebuilds of a saturated filter, off the thread that saturated it
+     */
+    public BloomFilteredUserRepository(UserRepository delegate, RegisteredEmails registeredEmails,
+                                       long expectedInsertions, double falsePositiveRate, Executor rebuildExecutor) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registeredEmails = Objects.requireNonNull(registeredEmails);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildExecutor = Objects.requireNonNull(rebuildExecutor);
+        this.filter = new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuild();
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        remember(saved.getEmail().value());
+        return saved;
+    }
+
+    /**
+     * Inserts through the delegate and records the email, also when the delegate reports it as taken.
+     */
+    @Override
+    public User insert(User user) {
+        String email = user.getEmail().value();
+        try {
+            User inserted = delegate.insert(user);
+            remember(email);
+            return inserted;
+        } catch (EmailAlreadyExistsException e) {
+            remember(email);
+            throw e;
+        }
+    }
+
+    /**
+     * @return false if the filter rules the email out, true if it might be registered
+     */
+    @Override
+    public boolean mightBeRegistered(String email) {
+        if (filter.mightContain(email)) {
+            return true;
+        }
+        skippedProbes.increment();
+        return false;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        if (!filter.mightContain(email)) {
+            skippedProbes.increment();
+            return false;
+        }
+
+        checkedProbes.increment();
+        boolean exists = delegate.existsByEmail(email);
+        if (!exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Only sends the emails the filter might contain to the delegate.
+     */
+    @Override
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        List<String> candidates = new ArrayList<>();
+        for (String email : emails) {
+            if (filter.mightContain(email)) {
+                candidates.add(email);
+            }
+        }
+        skippedProbes.add(emails.size() - candidates.size());
+        checkedProbes.add(candidates.size());
+        if (candidates.isEmpty()) return Set.of();
+
+        Set<String> registered = delegate.findRegisteredEmails(candidates);
+        falsePositives.add(candidates.size() - registered.size());
+        return registered;
+    }
+
+    @Override
+    public List<User> insertAll(List<User> users) {
+        List<User> inserted = delegate.insertAll(users);
+        for (User user : inserted) {
+            remember(user.getEmail().value());
+        }
+        return inserted;
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    /**
+     * Replaces the filter with one built from every registered email.
+     * <p>
+     * The new filter is sized for at least twice the current number of insertions, so it restores
+     * the configured false positive rate of a saturated filter. Saves running concurrently with the
+     * rebuild are recorded in both filters.
+     */
+    synchronized void rebuild() {
+        long size = Math.max(expectedInsertions, filter.insertions() * 2);
+        EmailBloomFilter next = new EmailBloomFilter(size, falsePositiveRate);
+        rebuilding = next;
+        try {
+            registeredEmails.forEach(next::put);
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void remember(String email) {
+
+        // Check the filter being rebuilt first: once it is cleared, the swap has already happened
+        EmailBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(email);
+        }
+        EmailBloomFilter current = filter;
+        current.put(email);
+        if (current.isSaturated()) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * @return the emails in the filter as a fraction of those it was sized for
+     */
+    double load() {
+        return filter.load();
+    }
+
+    /**
+     * Rebuilds the filter on the rebuild executor, unless a rebuild is already scheduled. A rebuild that
+     * fails leaves the saturated filter in place, and the next email remembered schedules another.
+     */
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) return;
+
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                    rebuilds.increment();
+                } catch (RuntimeException e) {
+                    log.warn("Rebuilding the saturated email filter failed", e);
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuildScheduled.set(false);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("users.email.filter.probes", skippedProbes, LongAdder::sum)
+                .description("Email availability checks answered by the filter without a database probe")
+                .tag("result", "skipped")
+                .register(registry);
+        FunctionCounter.builder("users.email.filter.probes", checkedProbes, LongAdder::sum)
+                .description("Email availability checks passed through to the database")
+                .tag("result", "checked")
+                .register(registry);
+        FunctionCounter.builder("users.email.filter.false.positives", falsePositives, LongAdder::sum)
+                .description("Database probes for emails the filter reported but that were not registered")
+                .register(registry);
+        Gauge.builder("users.email.filter.load", this, BloomFilteredUserRepository::load)
+                .description("Emails in the filter as a fraction of those it is sized for; above 1 it is being rebuilt")
+                .register(registry);
+        FunctionCounter.builder("users.email.filter.rebuilds", rebuilds, LongAdder::sum)
+                .description("Rebuilds of the filter after it held more emails than it was sized for")
+                .register(registry);
+    }
+}
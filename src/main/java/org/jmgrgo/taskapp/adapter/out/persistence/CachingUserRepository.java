@@ -0,0 +1,147 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Read-through cache decorator for a {@link UserRepository}.
+ * <p>
+ * Users are cached by normalized email, with a secondary index by {@link UserId} so that an
+ * email change evicts the previous key. Every save writes through to the delegate first and
+ * then refreshes the entry unless it already holds a newer version, so saves racing to refresh
+ * it leave the last write in place and this instance never serves failed login attempts or lock
+ * state older than its own last write. Entries are immutable snapshots: callers always
+ * receive a fresh copy they are free to mutate.
+ * <p>
+ * The cache is local to one instance. When several instances share a database, the
+ * time-to-live bounds how long a write made by another instance can go unseen.
+ */
+public class CachingUserRepository implements UserRepository, MeterBinder {
+
+    private final UserRepository delegate;
+    private final Cache<String, User> usersByEmail;
+    private final Cache<UserId, String> emailsById;
+
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration timeToLive) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.emailsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    public User save(User user) {
+        String email = user.getEmail().value();
+        String previousEmail = emailsById.getIfPresent(user.getId());
+
+        // Write through, dropping whatever we hold for this user if the write fails
+        User saved;
+        try {
+            saved = delegate.save(user);
+        } catch (RuntimeException e) {
+            evict(user.getId(), email, previousEmail);
+            throw e;
+        }
+
+        // Refresh the entry with the state that was just written
+        if (previousEmail != null && !previousEmail.equals(email)) {
+            usersByEmail.invalidate(previousEmail);
+        }
+        cache(email, saved);
+        emailsById.put(saved.getId(), email);
+        return saved;
+    }
+
+    @Override
+    public User insert(User user) {
+        User inserted = delegate.insert(user);
+        cache(inserted.getEmail().value(), inserted);
+        emailsById.put(inserted.getId(), inserted.getEmail().value());
+        return inserted;
+    }
+
+    @Override
+    public boolean mightBeRegistered(String email) {
+        return usersByEmail.getIfPresent(email) != null || delegate.mightBeRegistered(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return usersByEmail.getIfPresent(email) != null || delegate.existsByEmail(email);
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        User cached = usersByEmail.get(email, this::load);
+        return cached == null ? null : cached.toBuilder().build();
+    }
+
+    @Override
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        return delegate.findRegisteredEmails(emails);
+    }
+
+    /**
+     * Inserts through to the delegate without caching, since bulk-inserted users are rarely looked up right away.
+     */
+    @Override
+    public List<User> insertAll(List<User> users) {
+        return delegate.insertAll(users);
+    }
+
+    /**
+     * @return hit, miss and eviction counters of the email cache
+     */
+    public CacheStats stats() {
+        return usersByEmail.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, usersByEmail, "users");
+    }
+
+    private User load(String email) {
+        User user = delegate.findByEmail(email);
+        if (user != null) {
+            emailsById.put(user.getId(), email);
+        }
+        return user;
+    }
+
+    /**
+     * Caches a snapshot of a written user, keeping the entry instead if a concurrent save already
+     * cached a later version.
+     */
+    private void cache(String email, User written) {
+        usersByEmail.asMap().merge(email, written.toBuilder().build(),
+                (cached, snapshot) -> cached.getVersion() > snapshot.getVersion() ? cached : snapshot);
+    }
+
+    private void evict(UserId id, String email, String previousEmail) {
+        usersByEmail.invalidate(email);
+        if (previousEmail != null) {
+            usersByEmail.invalidate(previousEmail);
+        }
+        emailsById.invalidate(id);
+    }
+}
@@ -0,0 +1,195 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link TaskRepository} decorator answering tag and completion filtered pages from in-memory
+ * bitmap indexes, one per user, so the delegate only fetches the tasks of the page by id.
+ * <p>
+ * A user's index is built by streaming their tasks from the delegate on their first filtered listing and then kept
+ * up to date by the saves and deletes made through this instance. Indexes are held in a cache
+ * bounded by their estimated heap size, which evicts cold users first; an evicted user's index
+ * is simply rebuilt on their next filtered listing.
+ * <p>
+ * Writes made by other instances are not seen by an index, so each one is dropped {@code timeToLive}
+ * after it was built, however often it was updated since: a task created, retagged or completed
+ * elsewhere shows up in filtered listings within that time. When a fetched task no longer matches
+ * the page it was selected for, its owner's index is dropped early and the page is read from the
+ * delegate instead.
+ */
+public class IndexedTaskRepository implements TaskRepository, MeterBinder {
+
+    private final TaskRepository delegate;
+    private final Cache<UserId, UserTaskIndex> indexes;
+
+    private final LongAdder indexedPages = new LongAdder();
+    private final LongAdder stalePages = new LongAdder();
+
+    /**
+     * @param delegate the authoritative repository
+     * @param maximumBytes the maximum estimated heap size of all indexes together
+     * @param timeToLive the time after which an index is rebuilt, bounding how long writes from other instances go unseen
+     */
+    public IndexedTaskRepository(TaskRepository delegate, long maximumBytes, Duration timeToLive) {
+        this.delegate = Objects.requireNonNull(delegate);
+
+        // Local updates replace the index in the cache, which must not restart its time to live
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((UserId ownerId, UserTaskIndex index) -> index.weight())
+                .expireAfter(Expiry.creating((UserId ownerId, UserTaskIndex index) -> timeToLive))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved;
+        try {
+            saved = delegate.save(task);
+        } catch (RuntimeException e) {
+            indexes.invalidate(task.getOwnerId());
+            throw e;
+        }
+
+        // Update a loaded index in place; returning it makes the cache weigh it again
+        indexes.asMap().computeIfPresent(saved.getOwnerId(), (ownerId, index) -> {
+            index.put(saved);
+            return index;
+        });
+        return saved;
+    }
+
+    @Override
+    public Task findById(UserId ownerId, TaskId id) {
+        return delegate.findById(ownerId, id);
+    }
+
+    @Override
+    public List<Task> findAllById(UserId ownerId, Collection<TaskId> ids) {
+        return delegate.findAllById(ownerId, ids);
+    }
+
+    @Override
+    public void forEachOwnedBy(UserId ownerId, Consumer<Task> action) {
+        delegate.forEachOwnedBy(ownerId, action);
+    }
+
+    @Override
+    public boolean delete(UserId ownerId, TaskId id) {
+        boolean deleted;
+        try {
+            deleted = delegate.delete(ownerId, id);
+        } catch (RuntimeException e) {
+            indexes.invalidate(ownerId);
+            throw e;
+        }
+
+        if (deleted) {
+            indexes.asMap().computeIfPresent(ownerId, (key, index) -> {
+                index.remove(id);
+                return index;
+            });
+        }
+        return deleted;
+    }
+
+    /**
+     * Selects the page from the owner's index when the query filters by tag or completion, and
+     * fetches its tasks by id. Unfiltered pages are a single index range scan in the delegate already.
+     */
+    @Override
+    public List<Task> findPage(TaskPageQuery query) {
+        if (query.completed() == null && query.tagIds().isEmpty()) {
+            return delegate.findPage(query);
+        }
+
+        UserId ownerId = query.ownerId();
+        List<TaskId> ids = indexes.get(ownerId, this::build).select(query);
+        if (ids.isEmpty()) {
+            indexedPages.increment();
+            return List.of();
+        }
+
+        Map<TaskId, Task> found = new HashMap<>(ids.size() * 2);
+        for (Task task : delegate.findAllById(ownerId, ids)) {
+            found.put(task.getId(), task);
+        }
+
+        // Put the tasks in page order, falling back to the delegate if the index has drifted
+        List<Task> page = new ArrayList<>(ids.size());
+        for (TaskId id : ids) {
+            Task task = found.get(id);
+            if (task == null || !matches(task, query)) {
+                stalePages.increment();
+                indexes.invalidate(ownerId);
+                return delegate.findPage(query);
+            }
+            page.add(task);
+        }
+        indexedPages.increment();
+        return page;
+    }
+
+    /**
+     * @return the number of users whose index is loaded
+     */
+    public long indexedUsers() {
+        return indexes.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, indexes, "tasks.index");
+        Gauge.builder("tasks.index.bytes", indexes, cache -> cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .description("Estimated heap size of the loaded task indexes")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("tasks.index.pages", indexedPages, LongAdder::sum)
+                .description("Filtered task pages selected from the bitmap index")
+                .tag("result", "indexed")
+                .register(registry);
+        FunctionCounter.builder("tasks.index.pages", stalePages, LongAdder::sum)
+                .description("Filtered task pages read from the database because the index had drifted")
+                .tag("result", "stale")
+                .register(registry);
+    }
+
+    private UserTaskIndex build(UserId ownerId) {
+        UserTaskIndex index = new UserTaskIndex();
+        delegate.forEachOwnedBy(ownerId, index::put);
+        return index;
+    }
+
+    private static boolean matches(Task task, TaskPageQuery query) {
+        if (query.completed() != null && task.isCompleted() != query.completed()) return false;
+        if (!query.tagIds().isEmpty()
+                && (task.getTagId() == null || !query.tagIds().contains(task.getTagId()))) return false;
+        if (query.dueFrom() != null && task.getDueDate().isBefore(query.dueFrom())) return false;
+        return query.dueTo() == null || !task.getDueDate().isAfter(query.dueTo());
+    }
+}
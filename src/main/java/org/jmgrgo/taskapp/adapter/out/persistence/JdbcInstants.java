@@ -0,0 +1,28 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binds and reads {@link Instant}s as {@code TIMESTAMP WITH TIME ZONE} values in UTC.
+ */
+final class JdbcInstants {
+
+    private JdbcInstants() {
+    }
+
+    static void addInstant(MapSqlParameterSource params, String name, Instant value) {
+        params.addValue(name, value == null ? null : value.atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+
+    static Instant getInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+}
@@ -0,0 +1,82 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.addInstant;
+
+/**
+ * The single row of the {@code overdue_schedule} table.
+ * <p>
+ * The lease is taken with a conditional update, so of the instances racing for an expired lease
+ * exactly one succeeds. The row is created by the first instance to ask for the lease, with the
+ * day before as its watermark: tasks that were overdue before the schedule existed are not notified.
+ */
+public class JdbcOverdueWatermark implements OverdueWatermark {
+
+    private static final String ACQUIRE = """
+            UPDATE overdue_schedule SET owner = :owner, lease_until = :leaseUntil
+            WHERE id = 1 AND (owner IS NULL OR owner = :owner OR lease_until < :now)
+            """;
+
+    private static final String INSERT_SCHEDULE = """
+            INSERT INTO overdue_schedule (id, fired_through)
+            SELECT 1, :firedThrough
+            WHERE NOT EXISTS (SELECT 1 FROM overdue_schedule WHERE id = 1)
+            """;
+
+    private static final String SELECT_FIRED_THROUGH = "SELECT fired_through FROM overdue_schedule WHERE id = 1";
+
+    private static final String ADVANCE = """
+            UPDATE overdue_schedule SET fired_through = :firedThrough
+            WHERE id = 1 AND owner = :owner AND fired_through < :firedThrough
+            """;
+
+    private static final String RELEASE = "UPDATE overdue_schedule SET owner = NULL, lease_until = NULL WHERE id = 1 AND owner = :owner";
+
+    private final NamedParameterJdbcOperations jdbc;
+
+    public JdbcOverdueWatermark(NamedParameterJdbcOperations jdbc) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+    }
+
+    @Override
+    public boolean acquire(String owner, Instant now, Instant leaseUntil) {
+        MapSqlParameterSource params = new MapSqlParameterSource("owner", owner);
+        addInstant(params, "now", now);
+        addInstant(params, "leaseUntil", leaseUntil);
+        if (jdbc.update(ACQUIRE, params) > 0) return true;
+
+        // Create the row on first use, then race for it like any other instance
+        try {
+            LocalDate yesterday = LocalDate.ofInstant(now, ZoneOffset.UTC).minusDays(1);
+            jdbc.update(INSERT_SCHEDULE, new MapSqlParameterSource("firedThrough", yesterday));
+        } catch (DuplicateKeyException e) {
+            // Created by another instance in the meantime
+        }
+        return jdbc.update(ACQUIRE, params) > 0;
+    }
+
+    @Override
+    public LocalDate firedThrough() {
+        return jdbc.queryForObject(SELECT_FIRED_THROUGH, new MapSqlParameterSource(), LocalDate.class);
+    }
+
+    @Override
+    public void advance(String owner, LocalDate dueDate) {
+        jdbc.update(ADVANCE, new MapSqlParameterSource()
+                .addValue("owner", owner)
+                .addValue("firedThrough", dueDate));
+    }
+
+    @Override
+    public void release(String owner) {
+        jdbc.update(RELEASE, new MapSqlParameterSource("owner", owner));
+    }
+}
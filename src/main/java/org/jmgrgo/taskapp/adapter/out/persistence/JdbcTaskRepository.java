@@ -0,0 +1,190 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.addInstant;
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.getInstant;
+
+/**
+ * JDBC implementation of the {@link TaskRepository} port.
+ * <p>
+ * Pages are read with keyset pagination: instead of skipping {@code OFFSET} rows, each query seeks
+ * past the (due date, id) key of the previous page's last task. Every filter combination has a
+ * {@code (user_id, [filter,] due_date, id)} index, so a page is one index range scan of
+ * {@code limit} rows however deep it is. {@link #forEachOwnedBy} is the port's, reading one such
+ * page per query, so an export releases its connection between pages however slowly it is consumed.
+ */
+public class JdbcTaskRepository implements TaskRepository, OpenTasks {
+
+    private static final String SELECT_TASK = """
+            SELECT id, user_id, title, due_date, tag_id, completed, completed_at, created_at, updated_at
+            FROM tasks
+            """;
+
+    private static final String FIND_BY_ID = SELECT_TASK + "WHERE id = :id AND user_id = :userId";
+
+    private static final String FIND_ALL_BY_ID = SELECT_TASK + "WHERE id IN (:ids) AND user_id = :userId";
+
+    private static final String SELECT_OPEN_DUE_FROM = SELECT_TASK + "WHERE completed = FALSE AND due_date >= :from";
+
+    private static final String SELECT_OPEN_DUE_BETWEEN = SELECT_OPEN_DUE_FROM + " AND due_date <= :to";
+
+    private static final String UPDATE_TASK = """
+            UPDATE tasks SET
+                title = :title, due_date = :dueDate, tag_id = :tagId,
+                completed = :completed, completed_at = :completedAt, updated_at = :updatedAt
+            WHERE id = :id AND user_id = :userId
+            """;
+
+    private static final String INSERT_TASK = """
+            INSERT INTO tasks (id, user_id, title, due_date, tag_id, completed, completed_at, created_at, updated_at)
+            VALUES (:id, :userId, :title, :dueDate, :tagId, :completed, :completedAt, :createdAt, :updatedAt)
+            """;
+
+    private static final String DELETE_TASK = "DELETE FROM tasks WHERE id = :id AND user_id = :userId";
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> toTask(rs);
+
+    private final NamedParameterJdbcOperations jdbc;
+
+    public JdbcTaskRepository(NamedParameterJdbcOperations jdbc) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+    }
+
+    @Override
+    public Task save(Task task) {
+
+        // Update the existing row, insert it if there is none yet
+        MapSqlParameterSource params = toParameters(task);
+        if (jdbc.update(UPDATE_TASK, params) == 0) {
+            jdbc.update(INSERT_TASK, params);
+        }
+        return task;
+    }
+
+    @Override
+    public Task findById(UserId ownerId, TaskId id) {
+        List<Task> tasks = jdbc.query(FIND_BY_ID, new MapSqlParameterSource()
+                .addValue("id", id.value())
+                .addValue("userId", ownerId.value()), TASK_ROW_MAPPER);
+        return tasks.isEmpty() ? null : tasks.getFirst();
+    }
+
+    @Override
+    public List<Task> findAllById(UserId ownerId, Collection<TaskId> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        return jdbc.query(FIND_ALL_BY_ID, new MapSqlParameterSource()
+                .addValue("ids", ids.stream().map(TaskId::value).toList())
+                .addValue("userId", ownerId.value()), TASK_ROW_MAPPER);
+    }
+
+    /**
+     * Streams the open tasks due in the range with a range scan of the open tasks index.
+     */
+    @Override
+    public void forEachDue(LocalDate from, LocalDate to, Consumer<Task> action) {
+        MapSqlParameterSource params = new MapSqlParameterSource("from", from);
+        if (to != null) {
+            params.addValue("to", to);
+        }
+        jdbc.query(to == null ? SELECT_OPEN_DUE_FROM : SELECT_OPEN_DUE_BETWEEN, params,
+                (RowCallbackHandler) rs -> action.accept(toTask(rs)));
+    }
+
+    @Override
+    public boolean delete(UserId ownerId, TaskId id) {
+        return jdbc.update(DELETE_TASK, new MapSqlParameterSource()
+                .addValue("id", id.value())
+                .addValue("userId", ownerId.value())) > 0;
+    }
+
+    @Override
+    public List<Task> findPage(TaskPageQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_TASK).append("WHERE user_id = :userId");
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", query.ownerId().value());
+
+        // Equality filters, matching the leading columns of an index
+        if (query.completed() != null) {
+            sql.append(" AND completed = :completed");
+            params.addValue("completed", query.completed());
+        }
+        if (query.tagIds().size() == 1) {
+            sql.append(" AND tag_id = :tagId");
+            params.addValue("tagId", query.tagIds().iterator().next().value());
+        } else if (!query.tagIds().isEmpty()) {
+            sql.append(" AND tag_id IN (:tagIds)");
+            params.addValue("tagIds", query.tagIds().stream().map(TagId::value).toList());
+        }
+
+        // Due date range
+        if (query.dueFrom() != null) {
+            sql.append(" AND due_date >= :dueFrom");
+            params.addValue("dueFrom", query.dueFrom());
+        }
+        if (query.dueTo() != null) {
+            sql.append(" AND due_date <= :dueTo");
+            params.addValue("dueTo", query.dueTo());
+        }
+
+        // Seek past the previous page; the first conjunct bounds the index range scan
+        if (query.afterDueDate() != null) {
+            sql.append(" AND due_date >= :afterDueDate AND (due_date > :afterDueDate OR id > :afterId)");
+            params.addValue("afterDueDate", query.afterDueDate());
+            params.addValue("afterId", query.afterId().value());
+        }
+
+        sql.append(" ORDER BY due_date, id FETCH FIRST :limit ROWS ONLY");
+        params.addValue("limit", query.limit());
+        return jdbc.query(sql.toString(), params, TASK_ROW_MAPPER);
+    }
+
+    private static Task toTask(ResultSet rs) throws SQLException {
+        UUID tagId = rs.getObject("tag_id", UUID.class);
+        return new Task.Builder()
+                .id(new TaskId(rs.getObject("id", UUID.class)))
+                .ownerId(new UserId(rs.getObject("user_id", UUID.class)))
+                .title(TaskTitle.fromString(rs.getString("title")))
+                .dueDate(rs.getObject("due_date", LocalDate.class))
+                .tagId(tagId == null ? null : new TagId(tagId))
+                .completed(rs.getBoolean("completed"))
+                .completedAt(getInstant(rs, "completed_at"))
+                .createdAt(getInstant(rs, "created_at"))
+                .updatedAt(getInstant(rs, "updated_at"))
+                .build();
+    }
+
+    private static MapSqlParameterSource toParameters(Task task) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", task.getId().value())
+                .addValue("userId", task.getOwnerId().value())
+                .addValue("title", task.getTitle().value())
+                .addValue("dueDate", task.getDueDate())
+                .addValue("tagId", task.getTagId() == null ? null : task.getTagId().value(), Types.OTHER)
+                .addValue("completed", task.isCompleted());
+        addInstant(params, "completedAt", task.getCompletedAt());
+        addInstant(params, "createdAt", task.getCreatedAt());
+        addInstant(params, "updatedAt", task.getUpdatedAt());
+        return params;
+    }
+}
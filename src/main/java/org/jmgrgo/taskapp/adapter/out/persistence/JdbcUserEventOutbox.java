@@ -0,0 +1,165 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.domain.user.event.*;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.addInstant;
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.getInstant;
+
+/**
+ * The {@code user_event_outbox} table: user events stored until the relay has delivered them.
+ * <p>
+ * Stores append events within the transaction of the change that raised them, so an event is
+ * stored if and only if its change is. Entries are claimed in id order, which is the order they
+ * were appended in, and locked rows are skipped, so relays on several instances never claim the
+ * same entry. Entries the relay gives up on move to {@code user_event_dead_letter}.
+ */
+public class JdbcUserEventOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO user_event_outbox (type, user_id, occurred_at, email, locked_until)
+            VALUES (:type, :userId, :occurredAt, :email, :lockedUntil)
+            """;
+
+    private static final String CLAIM_EVENTS = """
+            SELECT id, type, user_id, occurred_at, email, locked_until, attempts
+            FROM user_event_outbox
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String RECORD_FAILURE = "UPDATE user_event_outbox SET attempts = attempts + 1 WHERE id = :id";
+
+    private static final String INSERT_DEAD_LETTER = """
+            INSERT INTO user_event_dead_letter (
+                id, type, user_id, occurred_at, email, locked_until, attempts, failed_at, error
+            )
+            SELECT id, type, user_id, occurred_at, email, locked_until, :attempts, :failedAt, :error
+            FROM user_event_outbox
+            WHERE id = :id
+            """;
+
+    private static final String DELETE_EVENT = "DELETE FROM user_event_outbox WHERE id = :id";
+
+    private static final String DELETE_EVENTS = "DELETE FROM user_event_outbox WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcOperations jdbc;
+
+    public JdbcUserEventOutbox(NamedParameterJdbcOperations jdbc) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+    }
+
+    /**
+     * Appends events in one batch. Call within the transaction storing the change that raised them.
+     */
+    public void append(List<UserEvent> events) {
+        if (events.isEmpty()) return;
+
+        SqlParameterSource[] rows = new SqlParameterSource[events.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = toParameters(events.get(i));
+        }
+        jdbc.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    /**
+     * Locks up to {@code limit} of the oldest entries no other transaction holds. Call within a
+     * transaction; the entries stay claimed until it ends.
+     * @return the claimed entries, oldest first
+     */
+    public List<Entry> claim(int limit) {
+        return jdbc.query(CLAIM_EVENTS, new MapSqlParameterSource("limit", limit), entry());
+    }
+
+    /**
+     * Counts a failed delivery of a claimed entry, which stays in the outbox.
+     */
+    public void recordFailure(long id) {
+        jdbc.update(RECORD_FAILURE, new MapSqlParameterSource("id", id));
+    }
+
+    /**
+     * Moves a claimed entry to the dead letter table.
+     * @param attempts the failed deliveries of the entry, including the last one
+     * @param error why the entry was given up on
+     */
+    public void deadLetter(long id, int attempts, Instant failedAt, String error) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("attempts", attempts)
+                .addValue("error", error == null || error.length() <= MAX_ERROR_LENGTH
+                        ? error : error.substring(0, MAX_ERROR_LENGTH), Types.VARCHAR);
+        addInstant(params, "failedAt", failedAt);
+        jdbc.update(INSERT_DEAD_LETTER, params);
+        jdbc.update(DELETE_EVENT, params);
+    }
+
+    /**
+     * Removes delivered entries.
+     */
+    public void delete(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        jdbc.update(DELETE_EVENTS, new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * A stored event and the id of its row.
+     * @param event the event, or null if the row holds a type this version does not know or cannot read
+     * @param attempts the failed deliveries so far
+     */
+    public record Entry(long id, String type, UserEvent event, int attempts) {}
+
+    private static MapSqlParameterSource toParameters(UserEvent event) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("type", event.getClass().getSimpleName())
+                .addValue("userId", event.userId().value())
+                .addValue("email", event instanceof UserRegistered registered ? registered.email().value() : null, Types.VARCHAR);
+        addInstant(params, "occurredAt", event.occurredAt());
+        addInstant(params, "lockedUntil", event instanceof AccountLocked locked ? locked.lockedUntil() : null);
+        return params;
+    }
+
+    private static RowMapper<Entry> entry() {
+        return (rs, rowNum) -> {
+            String type = rs.getString("type");
+            return new Entry(rs.getLong("id"), type, toEvent(rs, type), rs.getInt("attempts"));
+        };
+    }
+
+    /**
+     * @return the event of the row, or null if its type is unknown or its columns do not make a valid event
+     */
+    private static UserEvent toEvent(ResultSet rs, String type) throws SQLException {
+        UserId userId = new UserId(rs.getObject("user_id", UUID.class));
+        Instant occurredAt = getInstant(rs, "occurred_at");
+        try {
+            return switch (type) {
+                case "UserRegistered" -> new UserRegistered(userId, EmailAddress.fromString(rs.getString("email")), occurredAt);
+                case "LoginSucceeded" -> new LoginSucceeded(userId, occurredAt);
+                case "AccountLocked" -> new AccountLocked(userId, getInstant(rs, "locked_until"), occurredAt);
+                case "UserDeleted" -> new UserDeleted(userId, occurredAt);
+                default -> null;
+            };
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
+import org.jmgrgo.taskapp.application.exception.UserUpdateConflictException;
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.event.LoginSucceeded;
+import org.jmgrgo.taskapp.domain.user.event.UserEvent;
+import org.jmgrgo.taskapp.domain.user.value.*;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.addInstant;
+import static org.jmgrgo.taskapp.adapter.out.persistence.JdbcInstants.getInstant;
+
+/**
+ * JDBC implementation of the {@link UserRepository} port.
+ * <p>
+ * Users live in the {@code users} table, whose unique index on the normalized email backs
+ * every email lookup. Roles are stored in the {@code roles} column as the {@link UserRole}
+ * bitmask, so a user is always one row, read and written by a single statement.
+ * <p>
+ * Saving an existing user updates only the columns of the {@link User.Field}s it reports as
+ * changed, so a login that only moves timestamps does not rewrite the email, hash or roles, and
+ * a save without changes issues no statement at all.
+ * <p>
+ * Every update is a compare-and-set on the {@code version} column: it only applies to the version
+ * the user was loaded at, and moves it one forward. A save against a newer row fails with
+ * {@link UserUpdateConflictException} instead of silently overwriting it. The write-behind activity
+ * updates leave the version alone, since they only move timestamps forward.
+ * <p>
+ * Activity timestamps ({@code updated_at}, {@code last_login_at}, {@code last_active_at}) only ever
+ * move forward, so a save of an aggregate loaded before a buffered login was flushed cannot
+ * roll them back.
+ * <p>
+ * The pending events of a user are appended to the {@link JdbcUserEventOutbox} in the same
+ * transaction as its row, and the {@link LoginSucceeded}s of logins are appended with their activity
+ * updates.
+ */
+public class JdbcUserRepository implements UserRepository, RegisteredEmails {
+
+    private static final String SELECT_USER = """
+            SELECT u.id, u.email, u.email_verified, u.email_updated_at,
+                   u.password_hash, u.password_updated_at, u.status,
+                   u.failed_login_attempts, u.account_locked_until, u.version,
+                   u.roles, u.created_at, u.updated_at, u.last_login_at, u.last_active_at, u.deleted_at
+            FROM users u
+            """;
+
+    private static final String FIND_BY_EMAIL = SELECT_USER + "WHERE u.email = :email";
+
+    private static final String EXISTS_BY_EMAIL =
+            "SELECT EXISTS (SELECT 1 FROM users WHERE email = :email)";
+
+    private static final String EXISTS_BY_ID = "SELECT EXISTS (SELECT 1 FROM users WHERE id = :id)";
+
+    private static final String SELECT_REGISTERED_EMAILS = "SELECT email FROM users WHERE email IN (:emails)";
+
+    private static final String SELECT_EMAILS = "SELECT email FROM users";
+
+    private static final int EMAIL_FETCH_SIZE = 1000;
+
+    // The assignment written for each changed field
+    private static final Map<User.Field, String> ASSIGNMENTS = assignments();
+
+    private static final String UPDATE_LOGIN_ACTIVITY = """
+            UPDATE users SET
+                updated_at = GREATEST(COALESCE(updated_at, :at), :at),
+                last_login_at = GREATEST(COALESCE(last_login_at, :at), :at),
+                last_active_at = GREATEST(COALESCE(last_active_at, :at), :at)
+            WHERE id = :id
+            """;
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (
+                id, email, email_verified, email_updated_at, password_hash, password_updated_at,
+                status, roles, failed_login_attempts, account_locked_until,
+                created_at, updated_at, last_login_at, last_active_at, deleted_at, version
+            ) VALUES (
+                :id, :email, :emailVerified, :emailUpdatedAt, :passwordHash, :passwordUpdatedAt,
+                :status, :roles, :failedLoginAttempts, :accountLockedUntil,
+                :createdAt, :updatedAt, :lastLoginAt, :lastActiveAt, :deletedAt, :version
+            )
+            """;
+
+    private final NamedParameterJdbcOperations jdbc;
+    private final TransactionOperations transactions;
+    private final JdbcUserEventOutbox outbox;
+
+    // UPDATE statements by changed-field bitmask, built on first use
+    private final ConcurrentHashMap<Integer, String> updates = new ConcurrentHashMap<>();
+
+    public JdbcUserRepository(NamedParameterJdbcOperations jdbc, TransactionOperations transactions) {
+        this(jdbc, transactions, new JdbcUserEventOutbox(jdbc));
+    }
+
+    public JdbcUserRepository(NamedParameterJdbcOperations jdbc, TransactionOperations transactions,
+                              JdbcUserEventOutbox outbox) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.outbox = Objects.requireNonNull(outbox);
+    }
+
+    /**
+     * @throws UserUpdateConflictException if the stored user has changed since {@code user} was loaded
+     */
+    @Override
+    public User save(User user) {
+        if (!user.hasChanges()) return user;
+
+        long version = transactions.execute(status -> {
+
+            // Update the changed columns of the row at the loaded version
+            SqlParameterSource params = toParameters(user);
+            long stored;
+            if (jdbc.update(updateOf(user), params) == 1) {
+                stored = user.getVersion() + 1;
+            } else {
+
+                // No row at that version: either a newer one exists, or none yet
+                if (Boolean.TRUE.equals(jdbc.queryForObject(EXISTS_BY_ID, params, Boolean.class))) {
+                    throw new UserUpdateConflictException("User was modified concurrently");
+                }
+                jdbc.update(INSERT_USER, params);
+                stored = user.getVersion();
+            }
+            outbox.append(user.getPendingEvents());
+            return stored;
+        });
+        user.markStored(version);
+        return user;
+    }
+
+    /**
+     * Inserts a new user and its events in one transaction, without checking the email first.
+     * @throws EmailAlreadyExistsException if the unique email constraint rejects the row
+     */
+    @Override
+    public User insert(User user) {
+        try {
+            transactions.executeWithoutResult(status -> insertBatch(List.of(user)));
+        } catch (DuplicateKeyException e) {
+            throw new EmailAlreadyExistsException("Email Already In Use");
+        }
+        user.markStored(user.getVersion());
+        return user;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        Boolean exists = jdbc.queryForObject(EXISTS_BY_EMAIL, new MapSqlParameterSource("email", email), Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * Finds a user by its normalized email.
+     * @param email the normalized email value
+     * @return the user, or {@code null} if no user is registered with that email
+     */
+    @Override
+    public User findByEmail(String email) {
+        return jdbc.query(FIND_BY_EMAIL, new MapSqlParameterSource("email", email), singleUser());
+    }
+
+    /**
+     * Checks a batch of normalized emails with a single query.
+     * @return the emails among {@code emails} that are already registered
+     */
+    @Override
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        if (emails.isEmpty()) return Set.of();
+
+        return new HashSet<>(jdbc.queryForList(SELECT_REGISTERED_EMAILS,
+                new MapSqlParameterSource("emails", emails), String.class));
+    }
+
+    /**
+     * Inserts new users with one batch statement, in a single transaction.
+     * <p>
+     * If an email was registered concurrently, the batch is rolled back and the users are inserted
+     * one transaction at a time, skipping the duplicates.
+     * @return the users that were inserted
+     */
+    @Override
+    public List<User> insertAll(List<User> users) {
+        if (users.isEmpty()) return List.of();
+
+        try {
+            transactions.executeWithoutResult(status -> insertBatch(users));
+            users.forEach(user -> user.markStored(user.getVersion()));
+            return users;
+        } catch (DuplicateKeyException e) {
+            List<User> inserted = new ArrayList<>(users.size());
+            for (User user : users) {
+                try {
+                    transactions.executeWithoutResult(status -> insertBatch(List.of(user)));
+                    user.markStored(user.getVersion());
+                    inserted.add(user);
+                } catch (DuplicateKeyException duplicate) {
+                    // Registered in the meantime
+                }
+            }
+            return inserted;
+        }
+    }
+
+    /**
+     * Records one login: moves the activity timestamps forward and appends its {@link LoginSucceeded},
+     * in one transaction.
+     */
+    public void recordLogin(UserId userId, Instant at) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", userId.value());
+        addInstant(params, "at", at);
+        transactions.executeWithoutResult(status -> {
+            jdbc.update(UPDATE_LOGIN_ACTIVITY, params);
+            outbox.append(List.of(new LoginSucceeded(userId, at)));
+        });
+    }
+
+    /**
+     * Records logins by only moving the activity timestamps forward, in a single batch, and appends
+     * their events in the same transaction.
+     * @param loginsByUser the latest login time of each user
+     * @param events the {@link LoginSucceeded} of every login, not only the latest
+     */
+    public void updateLoginActivity(Map<UserId, Instant> loginsByUser, List<LoginSucceeded> events) {
+        if (loginsByUser.isEmpty() && events.isEmpty()) return;
+
+        SqlParameterSource[] batch = new SqlParameterSource[loginsByUser.size()];
+        int i = 0;
+        for (Map.Entry<UserId, Instant> login : loginsByUser.entrySet()) {
+            MapSqlParameterSource params = new MapSqlParameterSource("id", login.getKey().value());
+            addInstant(params, "at", login.getValue());
+            batch[i++] = params;
+        }
+        transactions.executeWithoutResult(status -> {
+            if (batch.length > 0) {
+                jdbc.batchUpdate(UPDATE_LOGIN_ACTIVITY, batch);
+            }
+            outbox.append(List.copyOf(events));
+        });
+    }
+
+    /**
+     * Streams every registered email without materializing them.
+     * @param action the consumer receiving each normalized email
+     */
+    @Override
+    public void forEach(Consumer<String> action) {
+        jdbc.getJdbcOperations().query(SELECT_EMAILS, ps -> ps.setFetchSize(EMAIL_FETCH_SIZE),
+                (RowCallbackHandler) rs -> action.accept(rs.getString(1)));
+    }
+
+    private void insertBatch(List<User> users) {
+        SqlParameterSource[] rows = new SqlParameterSource[users.size()];
+        List<UserEvent> events = new ArrayList<>(users.size());
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = toParameters(users.get(i));
+            events.addAll(users.get(i).getPendingEvents());
+        }
+        jdbc.batchUpdate(INSERT_USER, rows);
+        outbox.append(events);
+    }
+
+    /**
+     * @return the UPDATE statement writing the changed fields of {@code user}
+     */
+    private String updateOf(User user) {
+        int changed = 0;
+        for (User.Field field : User.Field.values()) {
+            if (user.isChanged(field)) {
+                changed |= 1 << field.ordinal();
+            }
+        }
+        return updates.computeIfAbsent(changed, JdbcUserRepository::buildUpdate);
+    }
+
+    private static String buildUpdate(int changed) {
+        StringJoiner set = new StringJoiner(", ", "UPDATE users SET ", ", version = version + 1 WHERE id = :id AND version = :version");
+        for (User.Field field : User.Field.values()) {
+            if ((changed & 1 << field.ordinal()) != 0) {
+                set.add(ASSIGNMENTS.get(field));
+            }
+        }
+        return set.toString();
+    }
+
+    private static Map<User.Field, String> assignments() {
+        EnumMap<User.Field, String> assignments = new EnumMap<>(User.Field.class);
+        assignments.put(User.Field.EMAIL, "email = :email");
+        assignments.put(User.Field.EMAIL_VERIFIED, "email_verified = :emailVerified");
+        assignments.put(User.Field.EMAIL_UPDATED_AT, "email_updated_at = :emailUpdatedAt");
+        assignments.put(User.Field.PASSWORD_HASH, "password_hash = :passwordHash");
+        assignments.put(User.Field.PASSWORD_UPDATED_AT, "password_updated_at = :passwordUpdatedAt");
+        assignments.put(User.Field.STATUS, "status = :status");
+        assignments.put(User.Field.ROLES, "roles = :roles");
+        assignments.put(User.Field.FAILED_LOGIN_ATTEMPTS, "failed_login_attempts = :failedLoginAttempts");
+        assignments.put(User.Field.ACCOUNT_LOCKED_UNTIL, "account_locked_until = :accountLockedUntil");
+        assignments.put(User.Field.DELETED_AT, "deleted_at = :deletedAt");
+
+        // Activity timestamps only move forward
+        assignments.put(User.Field.UPDATED_AT, "updated_at = GREATEST(COALESCE(updated_at, :updatedAt), :updatedAt)");
+        assignments.put(User.Field.LAST_LOGIN_AT, "last_login_at = GREATEST(COALESCE(last_login_at, :lastLoginAt), :lastLoginAt)");
+        assignments.put(User.Field.LAST_ACTIVE_AT, "last_active_at = GREATEST(COALESCE(last_active_at, :lastActiveAt), :lastActiveAt)");
+        return assignments;
+    }
+
+    private static ResultSetExtractor<User> singleUser() {
+        return rs -> rs.next() ? toBuilder(rs).build() : null;
+    }
+
+    private static User.Builder toBuilder(ResultSet rs) throws SQLException {
+        String passwordHash = rs.getString("password_hash");
+        return new User.Builder()
+                .id(new UserId(rs.getObject("id", UUID.class)))
+                .email(EmailAddress.fromString(rs.getString("email")))
+                .emailVerified(rs.getBoolean("email_verified"))
+                .emailUpdatedAt(getInstant(rs, "email_updated_at"))
+                .passwordHash(passwordHash == null ? null : PasswordHash.fromString(passwordHash))
+                .passwordUpdatedAt(getInstant(rs, "password_updated_at"))
+                .status(UserStatus.valueOf(rs.getString("status")))
+                .roleMask(rs.getInt("roles"))
+                .failedLoginAttempts(rs.getInt("failed_login_attempts"))
+                .accountLockedUntil(getInstant(rs, "account_locked_until"))
+                .createdAt(getInstant(rs, "created_at"))
+                .updatedAt(getInstant(rs, "updated_at"))
+                .lastLoginAt(getInstant(rs, "last_login_at"))
+                .lastActiveAt(getInstant(rs, "last_active_at"))
+                .deletedAt(getInstant(rs, "deleted_at"))
+                .version(rs.getLong("version"));
+    }
+
+    private static MapSqlParameterSource toParameters(User user) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", user.getId().value())
+                .addValue("email", user.getEmail().value())
+                .addValue("emailVerified", user.isEmailVerified())
+                .addValue("passwordHash", user.getPasswordHash() == null ? null : user.getPasswordHash().value(), Types.VARCHAR)
+                .addValue("status", user.getStatus().name())
+                .addValue("roles", user.getRoleMask())
+                .addValue("failedLoginAttempts", user.getFailedLoginAttempts())
+                .addValue("version", user.getVersion());
+        addInstant(params, "emailUpdatedAt", user.getEmailUpdatedAt());
+        addInstant(params, "passwordUpdatedAt", user.getPasswordUpdatedAt());
+        addInstant(params, "accountLockedUntil", user.getAccountLockedUntil());
+        addInstant(params, "createdAt", user.getCreatedAt());
+        addInstant(params, "updatedAt", user.getUpdatedAt());
+        addInstant(params, "lastLoginAt", user.getLastLoginAt());
+        addInstant(params, "lastActiveAt", user.getLastActiveAt());
+        addInstant(params, "deletedAt", user.getDeletedAt());
+        return params;
+    }
+}
@@ -0,0 +1,19 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.domain.task.Task;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Source of every open task, used to rebuild in-memory schedules of due dates.
+ */
+@FunctionalInterface
+public interface OpenTasks {
+
+    /**
+     * Calls {@code action} with every task not completed yet and due from {@code from} to {@code to}, both included.
+     * @param to the last due date included, or null for no upper bound
+     */
+    void forEachDue(LocalDate from, LocalDate to, Consumer<Task> action);
+}
@@ -0,0 +1,32 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Shared state of the overdue schedule: the last due date whose tasks were notified, and the lease
+ * of the one instance allowed to notify.
+ */
+public interface OverdueWatermark {
+
+    /**
+     * Takes or renews the lease, unless another owner holds it past {@code now}.
+     * @return true if {@code owner} holds the lease until {@code leaseUntil}
+     */
+    boolean acquire(String owner, Instant now, Instant leaseUntil);
+
+    /**
+     * @return the last due date whose open tasks have all been notified
+     */
+    LocalDate firedThrough();
+
+    /**
+     * Moves {@link #firedThrough()} forward to {@code dueDate}, if {@code owner} still holds the lease.
+     */
+    void advance(String owner, LocalDate dueDate);
+
+    /**
+     * Gives up the lease, so another instance can take it without waiting for it to run out.
+     */
+    void release(String owner);
+}
@@ -0,0 +1,11 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import java.util.function.Consumer;
+
+/**
+ * Source of every registered normalized email, used to warm in-memory email indexes.
+ */
+@FunctionalInterface
+public interface RegisteredEmails {
+    void forEach(Consumer<String> action);
+}
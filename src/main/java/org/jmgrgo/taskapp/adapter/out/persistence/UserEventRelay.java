@@ -0,0 +1,198 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.UserEventHandler;
+import org.jmgrgo.taskapp.domain.user.event.UserEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the {@link JdbcUserEventOutbox} to the {@link UserEventHandler}s.
+ * <p>
+ * Every {@code pollInterval} the relay claims the oldest {@code batchSize} events, hands each one to
+ * every handler in order, and deletes the events delivered, all in one transaction. It keeps
+ * claiming while batches come back full, so a backlog drains without waiting for the next poll.
+ * Events are deleted only after they were handled, so delivery is at least once: a crash before the
+ * commit, or a handler failing after another succeeded, delivers the event again.
+ * <p>
+ * A failed event stops its batch and is retried first on the next poll, so on one instance handlers
+ * see the events of a user in the order they happened. After {@code maxAttempts} failed deliveries
+ * the event moves to the dead letter table and the events behind it go on; so does an event of a
+ * type this version cannot read. Claims skip rows locked by another instance's batch, so any number
+ * of instances can relay at once, each event going to one of them; across instances, batches are
+ * delivered concurrently and handlers must not rely on their order.
+ */
+public class UserEventRelay implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEventRelay.class);
+
+    private final JdbcUserEventOutbox outbox;
+    private final TransactionOperations transactions;
+    private final List<UserEventHandler> handlers;
+    private final Clock clock;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final int maxAttempts;
+    private ScheduledExecutorService poller;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final Timer lag;
+
+    // The time of the oldest event left in the outbox by the last poll, or null if it was drained
+    private volatile Instant oldestPending;
+
+    /**
+     * @param outbox the outbox to drain
+     * @param transactions the transactions each batch is claimed and delivered in
+     * @param handlers the handlers every event is delivered to
+     * @param clock the source of the current time
+     * @param pollInterval the time between polls of an empty outbox
+     * @param batchSize the maximum number of events claimed at once
+     * @param maxAttempts the failed deliveries after which an event is dead-lettered
+     * @param registry the registry receiving delivery and lag metrics
+     */
+    public UserEventRelay(JdbcUserEventOutbox outbox, TransactionOperations transactions, List<UserEventHandler> handlers,
+                          Clock clock, Duration pollInterval, int batchSize, int maxAttempts, MeterRegistry registry) {
+        this.outbox = Objects.requireNonNull(outbox);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.handlers = List.copyOf(handlers);
+        this.clock = Objects.requireNonNull(clock);
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        this.lag = Timer.builder("users.events.lag")
+                .description("Time from a user event to its delivery to the handlers")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("users.events.pending.age", this, UserEventRelay::pendingAgeSeconds)
+                .description("Age of the oldest user event the last poll left undelivered")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("users.events.delivered", delivered, LongAdder::sum)
+                .description("User events delivered to every handler")
+                .register(registry);
+        FunctionCounter.builder("users.events.failed", failures, LongAdder::sum)
+                .description("Deliveries of user events that failed")
+                .register(registry);
+        FunctionCounter.builder("users.events.dead-lettered", deadLettered, LongAdder::sum)
+                .description("User events moved to the dead letter table")
+                .register(registry);
+    }
+
+    /**
+     * Delivers the stored events until the outbox is empty or a delivery fails.
+     */
+    public void poll() {
+        try {
+            while (true) {
+                Batch batch = transactions.execute(status -> deliverBatch());
+                if (batch.blockedAt() != null) {
+                    oldestPending = batch.blockedAt();
+                    return;
+                }
+                if (batch.size() < batchSize) {
+                    oldestPending = null;
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to drain the user event outbox", e);
+        }
+    }
+
+    /**
+     * Starts polling on a background thread.
+     */
+    public synchronized void start() {
+        if (poller != null) return;
+
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-event-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.shutdown();
+        }
+    }
+
+    /**
+     * Claims a batch and delivers it up to the first event that fails and may still be retried.
+     * Runs within the transaction holding the claim.
+     */
+    private Batch deliverBatch() {
+        List<JdbcUserEventOutbox.Entry> entries = outbox.claim(batchSize);
+        List<Long> handled = new ArrayList<>(entries.size());
+        Instant blockedAt = null;
+        for (JdbcUserEventOutbox.Entry entry : entries) {
+            UserEvent event = entry.event();
+            if (event == null) {
+                log.error("Dead-lettering outbox entry {} of unreadable type {}", entry.id(), entry.type());
+                deadLetter(entry, entry.attempts(), "Unreadable event of type " + entry.type());
+                continue;
+            }
+            try {
+                for (UserEventHandler handler : handlers) {
+                    handler.handle(event);
+                }
+            } catch (RuntimeException e) {
+                failures.increment();
+                int attempts = entry.attempts() + 1;
+                if (attempts >= maxAttempts) {
+                    log.error("Dead-lettering {} after {} failed deliveries", event, attempts, e);
+                    deadLetter(entry, attempts, e.toString());
+                    continue;
+                }
+                log.warn("Failed to deliver {}, retrying on the next poll", event, e);
+                outbox.recordFailure(entry.id());
+                blockedAt = event.occurredAt();
+                break;
+            }
+            handled.add(entry.id());
+            delivered.increment();
+            lag.record(Duration.between(event.occurredAt(), clock.now()));
+        }
+        outbox.delete(handled);
+        return new Batch(entries.size(), blockedAt);
+    }
+
+    private void deadLetter(JdbcUserEventOutbox.Entry entry, int attempts, String error) {
+        outbox.deadLetter(entry.id(), attempts, clock.now(), error);
+        deadLettered.increment();
+    }
+
+    private double pendingAgeSeconds() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0 : Duration.between(oldest, clock.now()).toMillis() / 1000.0;
+    }
+
+    /**
+     * @param size the number of entries claimed
+     * @param blockedAt the time of the failed event the batch stopped at, or null if it went through
+     */
+    private record Batch(int size, Instant blockedAt) {}
+}
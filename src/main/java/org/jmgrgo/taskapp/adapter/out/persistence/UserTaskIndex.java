@@ -0,0 +1,193 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Bitmap index over the tasks of one user.
+ * <p>
+ * Each task gets an ordinal, reused after the task is deleted so ordinals stay dense. The
+ * completed tasks and the tasks of each tag are {@link TaskBitmap}s of ordinals, and due dates
+ * and ids live in arrays indexed by ordinal. A filtered page is then a few bitmap operations
+ * and one pass over the matching ordinals, keeping the first {@code limit} in (due date, id) order.
+ * <p>
+ * Methods are synchronized: updates and queries of one user are serialized, different users
+ * never contend.
+ */
+final class UserTaskIndex {
+
+    // Approximate heap cost of one task outside the bitmaps: its id, tag reference, due date and map entry
+    private static final int BYTES_PER_TASK = 112;
+
+    private final Map<TaskId, Integer> ordinals = new HashMap<>();
+    private TaskId[] ids = new TaskId[16];
+    private TagId[] tagIds = new TagId[16];
+    private int[] dueDays = new int[16];
+    private int[] freeOrdinals = new int[0];
+    private int freeCount;
+    private int nextOrdinal;
+
+    private final TaskBitmap live = new TaskBitmap();
+    private final TaskBitmap completed = new TaskBitmap();
+    private final Map<TagId, TaskBitmap> byTag = new HashMap<>();
+
+    /**
+     * Adds a task or updates the indexed state of one already present.
+     */
+    synchronized void put(Task task) {
+        Integer existing = ordinals.get(task.getId());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            untag(ordinal);
+        } else {
+            ordinal = allocate();
+            ordinals.put(task.getId(), ordinal);
+            ids[ordinal] = task.getId();
+            live.add(ordinal);
+        }
+
+        dueDays[ordinal] = (int) task.getDueDate().toEpochDay();
+        tagIds[ordinal] = task.getTagId();
+        if (task.getTagId() != null) {
+            byTag.computeIfAbsent(task.getTagId(), tagId -> new TaskBitmap()).add(ordinal);
+        }
+        if (task.isCompleted()) {
+            completed.add(ordinal);
+        } else {
+            completed.remove(ordinal);
+        }
+    }
+
+    synchronized void remove(TaskId id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) return;
+
+        untag(ordinal);
+        live.remove(ordinal);
+        completed.remove(ordinal);
+        ids[ordinal] = null;
+        tagIds[ordinal] = null;
+
+        // Hand the ordinal to the next new task
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, Math.max(16, freeCount * 2));
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    /**
+     * @return the ids of the tasks on the page selected by {@code query}, in (due date, id) order
+     */
+    synchronized List<TaskId> select(TaskPageQuery query) {
+        TaskBitmap candidates = candidates(query);
+        if (candidates.isEmpty()) return List.of();
+
+        int fromDay = query.dueFrom() == null ? Integer.MIN_VALUE : (int) query.dueFrom().toEpochDay();
+        int toDay = query.dueTo() == null ? Integer.MAX_VALUE : (int) query.dueTo().toEpochDay();
+        int afterDay = query.afterDueDate() == null ? Integer.MIN_VALUE : (int) query.afterDueDate().toEpochDay();
+        UUID afterId = query.afterId() == null ? null : query.afterId().value();
+
+        // Keep the first limit matches in a max-heap, so its head is the one to drop next
+        int limit = query.limit();
+        PriorityQueue<Integer> page = new PriorityQueue<>(Math.min(limit, 1024), (a, b) -> compare(b, a));
+        candidates.forEach(ordinal -> {
+            int day = dueDays[ordinal];
+            if (day < fromDay || day > toDay || day < afterDay) return;
+            if (day == afterDay && afterId != null && compareIds(ids[ordinal].value(), afterId) <= 0) return;
+
+            if (page.size() < limit) {
+                page.add(ordinal);
+            } else if (compare(ordinal, page.peek()) < 0) {
+                page.poll();
+                page.add(ordinal);
+            }
+        });
+
+        TaskId[] result = new TaskId[page.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = ids[page.poll()];
+        }
+        return List.of(result);
+    }
+
+    /**
+     * @return the approximate heap footprint of this index
+     */
+    synchronized int weight() {
+        long bytes = 64 + (long) ids.length * 16 + freeOrdinals.length * 4L
+                + (long) ordinals.size() * BYTES_PER_TASK + live.sizeInBytes() + completed.sizeInBytes();
+        for (TaskBitmap bitmap : byTag.values()) {
+            bytes += 48 + bitmap.sizeInBytes();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    synchronized int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * @return the ordinals matching the query's tag and completion filters
+     */
+    private TaskBitmap candidates(TaskPageQuery query) {
+        TaskBitmap candidates = live;
+        if (!query.tagIds().isEmpty()) {
+            candidates = new TaskBitmap();
+            for (TagId tagId : query.tagIds()) {
+                TaskBitmap tagged = byTag.get(tagId);
+                if (tagged != null) {
+                    candidates = candidates.or(tagged);
+                }
+            }
+        }
+        if (query.completed() == null) return candidates;
+        return query.completed() ? candidates.and(completed) : candidates.andNot(completed);
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeOrdinals[--freeCount];
+        }
+        if (nextOrdinal == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            tagIds = Arrays.copyOf(tagIds, capacity);
+            dueDays = Arrays.copyOf(dueDays, capacity);
+        }
+        return nextOrdinal++;
+    }
+
+    private void untag(int ordinal) {
+        TagId tagId = tagIds[ordinal];
+        if (tagId == null) return;
+
+        TaskBitmap tagged = byTag.get(tagId);
+        tagged.remove(ordinal);
+        if (tagged.isEmpty()) {
+            byTag.remove(tagId);
+        }
+    }
+
+    private int compare(int a, int b) {
+        int byDay = Integer.compare(dueDays[a], dueDays[b]);
+        return byDay != 0 ? byDay : compareIds(ids[a].value(), ids[b].value());
+    }
+
+    /**
+     * Compares ids the way the database orders UUID columns: as unsigned 128-bit numbers.
+     */
+    private static int compareIds(UUID a, UUID b) {
+        int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,135 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.application.port.out.LoginActivityRecorder;
+import org.jmgrgo.taskapp.domain.user.event.LoginSucceeded;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind {@link LoginActivityRecorder} that coalesces logins per user and flushes them in batches.
+ * <p>
+ * Only the latest login of each user is kept until the next flush, which runs every
+ * {@code flushInterval} or as soon as {@code maxPending} users are waiting. Each login's
+ * {@link LoginSucceeded} is buffered alongside, and appended to the outbox in the flush's transaction,
+ * so a login costs no write of its own. A failed flush puts its logins and events back so they are
+ * retried with the next one. Logins still buffered when the process dies are lost, with their events.
+ */
+public class WriteBehindLoginActivityRecorder implements LoginActivityRecorder, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindLoginActivityRecorder.class);
+
+    private final JdbcUserRepository repository;
+    private final int maxPending;
+    private final ConcurrentHashMap<UserId, Instant> pending = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<LoginSucceeded> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    /**
+     * @param repository the repository the logins and their events are flushed to
+     * @param flushInterval the maximum time a login stays buffered
+     * @param maxPending the number of buffered users triggering an early flush
+     */
+    public WriteBehindLoginActivityRecorder(JdbcUserRepository repository, Duration flushInterval, int maxPending) {
+        this.repository = Objects.requireNonNull(repository);
+        this.maxPending = maxPending;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-activity-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordLogin(UserId userId, Instant at) {
+        pendingEvents.add(new LoginSucceeded(userId, at));
+        pending.merge(userId, at, WriteBehindLoginActivityRecorder::latest);
+        recorded.increment();
+
+        // Flush early once enough users are waiting, without queueing more than one extra flush
+        if (pending.size() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes every buffered login and its event in one transaction. Runs on the flusher thread only.
+     */
+    void flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty() && pendingEvents.isEmpty()) return;
+
+        // Take each entry out atomically, so logins recorded meanwhile wait for the next flush
+        Map<UserId, Instant> batch = new HashMap<>();
+        for (UserId userId : pending.keySet()) {
+            Instant at = pending.remove(userId);
+            if (at != null) {
+                batch.put(userId, at);
+            }
+        }
+
+        // Events of logins recorded meanwhile may go out ahead of their timestamps, which stay for the next flush
+        List<LoginSucceeded> events = new ArrayList<>();
+        for (LoginSucceeded event; (event = pendingEvents.poll()) != null; ) {
+            events.add(event);
+        }
+
+        try {
+            repository.updateLoginActivity(batch, events);
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} buffered logins, retrying with the next flush", events.size(), e);
+            batch.forEach((userId, at) -> pending.merge(userId, at, WriteBehindLoginActivityRecorder::latest));
+            pendingEvents.addAll(events);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.login.activity.pending", pending, Map::size)
+                .description("Users with a buffered login waiting to be flushed")
+                .register(registry);
+        FunctionCounter.builder("users.login.activity.recorded", recorded, LongAdder::sum)
+                .description("Logins recorded")
+                .register(registry);
+        FunctionCounter.builder("users.login.activity.written", written, LongAdder::sum)
+                .description("Rows written by login activity flushes")
+                .register(registry);
+    }
+
+    /**
+     * Stops the periodic flush and writes the remaining logins.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        flusher.shutdown();
+        if (flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+            flush();
+        }
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
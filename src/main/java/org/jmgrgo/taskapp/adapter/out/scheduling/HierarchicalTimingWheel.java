@@ -0,0 +1,186 @@
+package org.jmgrgo.taskapp.adapter.out.scheduling;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hierarchical timing wheel: schedules keyed timers and fires them as time advances.
+ * <p>
+ * Time is counted in ticks of {@code tickMillis}. Level {@code l} has {@value #SLOTS} slots of
+ * {@code 64^l} ticks each, so a timer is filed by the highest base-64 digit in which its deadline
+ * differs from the current tick: scheduling and cancelling are O(1), and each timer is moved down
+ * at most once per level before it fires. Deadlines beyond the last level wait in an overflow list
+ * that is re-filed when that level wraps.
+ * <p>
+ * Timers fire no earlier than their deadline and at most one tick later. Not thread-safe.
+ */
+final class HierarchicalTimingWheel<K, V> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final Entry<K, V>[][] levels;
+    private final Entry<K, V> overflow = Entry.sentinel();
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis the resolution of the wheel
+     * @param levelCount the number of levels; together they span {@code 64^levelCount} ticks
+     * @param startMillis the current time
+     */
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, int levelCount, long startMillis) {
+        if (tickMillis < 1 || levelCount < 1 || levelCount * SLOT_BITS > 60) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = new Entry[levelCount][SLOTS];
+        for (Entry<K, V>[] level : levels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                level[slot] = Entry.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules a timer, replacing the one already scheduled under {@code key}.
+     * @return false if {@code deadlineMillis} has already passed, in which case nothing is scheduled
+     */
+    boolean schedule(K key, V value, long deadlineMillis) {
+        cancel(key);
+
+        // Round up so a timer never fires before its deadline
+        long tick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        if (tick <= currentTick) return false;
+
+        Entry<K, V> entry = new Entry<>(key, value, tick);
+        entries.put(key, entry);
+        file(entry);
+        return true;
+    }
+
+    /**
+     * @return the value of the cancelled timer, or null if none was scheduled under {@code key}
+     */
+    V cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) return null;
+
+        entry.unlink();
+        return entry.value;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis}, passing each timer whose deadline has been reached to {@code expired}.
+     */
+    void advanceTo(long nowMillis, BiConsumer<K, V> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            // Every timer in the current level 0 slot is due on this tick
+            Entry<K, V> head = levels[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                Entry<K, V> entry = head.next;
+                entry.unlink();
+                entries.remove(entry.key);
+                expired.accept(entry.key, entry.value);
+            }
+        }
+    }
+
+    /**
+     * @return the number of scheduled timers
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the current time of the wheel, rounded down to a tick
+     */
+    long currentMillis() {
+        return currentTick * tickMillis;
+    }
+
+    /**
+     * Re-files the timers of every higher-level slot the current tick has just entered.
+     */
+    private void cascade() {
+        int level = 1;
+        while (level < levels.length && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+
+        // Highest level first, so its timers reach their final slot in this same pass
+        if (level == levels.length && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            refile(overflow);
+        }
+        for (int l = level - 1; l >= 1; l--) {
+            refile(levels[l][(int) ((currentTick >>> (SLOT_BITS * l)) & SLOT_MASK)]);
+        }
+    }
+
+    private void refile(Entry<K, V> head) {
+        Entry<K, V> entry = head.next;
+        head.next = head;
+        head.previous = head;
+        while (entry != head) {
+            Entry<K, V> next = entry.next;
+            file(entry);
+            entry = next;
+        }
+    }
+
+    private void file(Entry<K, V> entry) {
+
+        // The level is the highest base-64 digit in which the deadline differs from now
+        long differing = entry.tick ^ currentTick;
+        int level = differing == 0 ? 0 : (63 - Long.numberOfLeadingZeros(differing)) / SLOT_BITS;
+        Entry<K, V> head = level < levels.length
+                ? levels[level][(int) ((entry.tick >>> (SLOT_BITS * level)) & SLOT_MASK)]
+                : overflow;
+        entry.linkBefore(head);
+    }
+
+    /**
+     * A timer, linked into the circular list of its slot.
+     */
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long tick;
+        private Entry<K, V> previous = this;
+        private Entry<K, V> next = this;
+
+        private Entry(K key, V value, long tick) {
+            this.key = key;
+            this.value = value;
+            this.tick = tick;
+        }
+
+        private static <K, V> Entry<K, V> sentinel() {
+            return new Entry<>(null, null, 0);
+        }
+
+        private void linkBefore(Entry<K, V> head) {
+            previous = head.previous;
+            next = head;
+            head.previous.next = this;
+            head.previous = this;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = this;
+            next = this;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.jmgrgo.taskapp.adapter.out.scheduling;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.adapter.out.persistence.OpenTasks;
+import org.jmgrgo.taskapp.adapter.out.persistence.OverdueWatermark;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskOverdueNotifier;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Notifies {@link TaskOverdueNotifier} when an open task passes its due date.
+ * <p>
+ * Every open task has a timer in a {@link HierarchicalTimingWheel}, set for the start of the day
+ * after its due date (UTC, as for {@link Task#isOverdue(LocalDate)}). Saving a task moves or
+ * cancels its timer and each tick only touches the timers that fire, so the cost per task is
+ * constant however many tasks are open. Time comes from the injected {@link Clock} and ticks
+ * can be driven by {@link #tick()} directly, so the schedule is deterministic under a fake clock.
+ * <p>
+ * The schedule lives in memory and only holds the tasks saved through this instance, so every
+ * instance keeps one but only the holder of the {@link OverdueWatermark} lease notifies. Each time
+ * its clock enters a new day, the owner also scans the open tasks due since the watermark, notifies
+ * those its own timers did not fire, and moves the watermark to yesterday. That scan catches the
+ * tasks saved on other instances, and after {@link #recover()} or a change of owner, the tasks
+ * that passed their due date while nobody held the lease. Notifications are sent at least once: a
+ * crash between a notification and the watermark moving past its due date sends it again.
+ */
+public class OverdueTaskScheduler implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueTaskScheduler.class);
+
+    // Six levels of 64 slots span 64^6 ticks, over two thousand years at one tick per second
+    private static final int LEVELS = 6;
+
+    private final Clock clock;
+    private final TaskOverdueNotifier notifier;
+    private final OpenTasks openTasks;
+    private final OverdueWatermark watermark;
+    private final Duration tick;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final HierarchicalTimingWheel<TaskId, Timer> wheel;
+    private ScheduledExecutorService ticker;
+
+    // Lease state, only touched by the thread ticking
+    private boolean owner;
+    private Instant leaseCheckAt = Instant.MIN;
+    private LocalDate firedThrough;
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder caughtUp = new LongAdder();
+
+    /**
+     * @param clock the source of the current time
+     * @param notifier the port told about overdue tasks
+     * @param openTasks the open tasks of every instance, scanned on recovery and each new day
+     * @param watermark the lease and last notified due date shared by the instances
+     * @param tick the resolution of the schedule
+     * @param lease how long the owner keeps the schedule without renewing; it renews halfway
+     */
+    public OverdueTaskScheduler(Clock clock, TaskOverdueNotifier notifier, OpenTasks openTasks,
+                                OverdueWatermark watermark, Duration tick, Duration lease) {
+        this.clock = Objects.requireNonNull(clock);
+        this.notifier = Objects.requireNonNull(notifier);
+        this.openTasks = Objects.requireNonNull(openTasks);
+        this.watermark = Objects.requireNonNull(watermark);
+        this.tick = tick;
+        this.lease = lease;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), LEVELS, clock.now().toEpochMilli());
+    }
+
+    /**
+     * Schedules, moves or cancels the timer of a task that was just saved.
+     * A task saved with a due date already passed is not notified.
+     */
+    public synchronized void track(Task task) {
+        if (task.isCompleted()) {
+            wheel.cancel(task.getId());
+            return;
+        }
+        wheel.schedule(task.getId(), new Timer(task.getOwnerId(), task.getDueDate()), overdueAt(task.getDueDate()));
+    }
+
+    /**
+     * Cancels the timer of a deleted task.
+     */
+    public synchronized void untrack(TaskId taskId) {
+        wheel.cancel(taskId);
+    }
+
+    /**
+     * Schedules every open task not overdue yet. Call before the application accepts writes; the
+     * tasks that became overdue since the watermark are notified by the first tick holding the lease.
+     */
+    public void recover() {
+        LocalDate today = LocalDate.ofInstant(clock.now(), ZoneOffset.UTC);
+        openTasks.forEachDue(today, null, this::track);
+        log.info("Scheduled {} open tasks for overdue notification", scheduled());
+    }
+
+    /**
+     * Fires the timers whose time has come according to the clock, and catches up from the
+     * watermark if this instance holds the lease.
+     */
+    public void tick() {
+        Instant now = clock.now();
+        Map<TaskId, Timer> expired = new LinkedHashMap<>();
+        synchronized (this) {
+            wheel.advanceTo(now.toEpochMilli(), expired::put);
+        }
+        if (!holdLease(now)) return;
+
+        // Notify outside the lock, so a slow notifier does not hold up saves
+        for (Map.Entry<TaskId, Timer> entry : expired.entrySet()) {
+            Timer timer = entry.getValue();
+            if (timer.dueDate().isAfter(firedThrough)) {
+                notifyOverdue(timer.ownerId(), entry.getKey(), timer.dueDate());
+            }
+        }
+
+        LocalDate yesterday = LocalDate.ofInstant(now, ZoneOffset.UTC).minusDays(1);
+        if (yesterday.isAfter(firedThrough)) {
+            try {
+                catchUp(yesterday, expired.keySet());
+            } catch (RuntimeException e) {
+                log.warn("Failed to catch up on overdue tasks from {}, retrying on the next tick", firedThrough, e);
+            }
+        }
+    }
+
+    /**
+     * Starts ticking on a background thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) return;
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "overdue-task-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = tick.toMillis();
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the number of tasks waiting to become overdue
+     */
+    public synchronized int scheduled() {
+        return wheel.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.overdue.scheduled", this, OverdueTaskScheduler::scheduled)
+                .description("Open tasks waiting to become overdue")
+                .register(registry);
+        FunctionCounter.builder("tasks.overdue.fired", fired, LongAdder::sum)
+                .description("Overdue transitions notified")
+                .register(registry);
+        FunctionCounter.builder("tasks.overdue.caught-up", caughtUp, LongAdder::sum)
+                .description("Overdue transitions notified from the scan of the open tasks rather than a timer")
+                .register(registry);
+    }
+
+    /**
+     * Stops ticking and hands the lease over, so another instance takes the schedule without waiting for it to run out.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService stopping;
+        synchronized (this) {
+            stopping = ticker;
+        }
+        if (stopping == null) return;
+
+        stopping.shutdown();
+        try {
+            if (stopping.awaitTermination(lease.toMillis(), TimeUnit.MILLISECONDS)) {
+                watermark.release(instanceId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Failed to release the overdue schedule lease", e);
+        }
+    }
+
+    /**
+     * Takes or renews the lease when half of it has run, and reloads the watermark on taking it.
+     * @return true if this instance holds the lease
+     */
+    private boolean holdLease(Instant now) {
+        if (now.isBefore(leaseCheckAt)) return owner;
+
+        boolean acquired;
+        try {
+            acquired = watermark.acquire(instanceId, now, now.plus(lease));
+            if (acquired && !owner) {
+                firedThrough = watermark.firedThrough();
+                log.info("Took the overdue schedule lease, notified through {}", firedThrough);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew the overdue schedule lease", e);
+            acquired = false;
+        }
+        if (owner && !acquired) {
+            log.warn("Lost the overdue schedule lease");
+        }
+        owner = acquired;
+        leaseCheckAt = now.plus(lease.dividedBy(2));
+        return owner;
+    }
+
+    /**
+     * Notifies the open tasks due after the watermark and through {@code yesterday} that no timer
+     * fired in this tick, then moves the watermark to {@code yesterday}.
+     */
+    private void catchUp(LocalDate yesterday, Set<TaskId> notified) {
+        openTasks.forEachDue(firedThrough.plusDays(1), yesterday, task -> {
+            if (notified.contains(task.getId())) return;
+
+            notifyOverdue(task.getOwnerId(), task.getId(), task.getDueDate());
+            caughtUp.increment();
+        });
+        watermark.advance(instanceId, yesterday);
+        firedThrough = yesterday;
+    }
+
+    private void notifyOverdue(UserId ownerId, TaskId taskId, LocalDate dueDate) {
+        try {
+            notifier.taskOverdue(ownerId, taskId, dueDate);
+            fired.increment();
+        } catch (RuntimeException e) {
+            log.warn("Failed to notify an overdue task", e);
+        }
+    }
+
+    /**
+     * @return the instant a task due on {@code dueDate} becomes overdue
+     */
+    static long overdueAt(LocalDate dueDate) {
+        return dueDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    private record Timer(UserId ownerId, LocalDate dueDate) {}
+}
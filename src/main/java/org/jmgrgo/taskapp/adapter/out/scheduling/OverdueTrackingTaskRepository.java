@@ -0,0 +1,62 @@
+package org.jmgrgo.taskapp.adapter.out.scheduling;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link TaskRepository} decorator feeding every successful save and delete to an {@link OverdueTaskScheduler}.
+ */
+public class OverdueTrackingTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final OverdueTaskScheduler scheduler;
+
+    public OverdueTrackingTaskRepository(TaskRepository delegate, OverdueTaskScheduler scheduler) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.scheduler = Objects.requireNonNull(scheduler);
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = delegate.save(task);
+        scheduler.track(saved);
+        return saved;
+    }
+
+    @Override
+    public Task findById(UserId ownerId, TaskId id) {
+        return delegate.findById(ownerId, id);
+    }
+
+    @Override
+    public List<Task> findAllById(UserId ownerId, Collection<TaskId> ids) {
+        return delegate.findAllById(ownerId, ids);
+    }
+
+    @Override
+    public void forEachOwnedBy(UserId ownerId, Consumer<Task> action) {
+        delegate.forEachOwnedBy(ownerId, action);
+    }
+
+    @Override
+    public boolean delete(UserId ownerId, TaskId id) {
+        boolean deleted = delegate.delete(ownerId, id);
+        if (deleted) {
+            scheduler.untrack(id);
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Task> findPage(TaskPageQuery query) {
+        return delegate.findPage(query);
+    }
+}
@@ -0,0 +1,49 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the highest BCrypt cost whose hashing time on one core fits a latency budget.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1";
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * Measures hashing at {@code minimumStrength} and extrapolates, each extra round doubling the work.
+     * @param targetLatency the time budget for hashing one password on one core
+     * @param minimumStrength the lowest acceptable cost, returned even if it exceeds the budget
+     * @param maximumStrength the highest cost to consider
+     * @return the calibrated cost
+     */
+    public static int calibrate(Duration targetLatency, int minimumStrength, int maximumStrength) {
+        if (minimumStrength > maximumStrength) {
+            throw new IllegalArgumentException("Minimum strength must not exceed maximum strength");
+        }
+
+        // Warm up, then take the median of a few samples at the minimum cost
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minimumStrength));
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minimumStrength));
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+
+        int strength = minimumStrength;
+        long estimatedNanos = samples[SAMPLES / 2];
+        while (strength < maximumStrength && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,80 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import org.jmgrgo.taskapp.application.port.out.PasswordHasher;
+import org.jmgrgo.taskapp.application.port.out.PasswordMatchVerifier;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt implementation of the {@link PasswordHasher} and {@link PasswordMatchVerifier} ports.
+ * <p>
+ * New hashes use {@code strength}. Existing hashes are accepted as long as their cost lies between
+ * {@code minimumStrength} and {@code maximumStrength}, the bounds every instance calibrates within,
+ * so instances calibrated to different costs do not keep re-hashing each other's passwords.
+ * <p>
+ * Every hash and verification runs on the {@link PasswordHashingExecutor}, never on the calling thread.
+ */
+public class BCryptPasswordHasher implements PasswordHasher, PasswordMatchVerifier {
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final int minimumStrength;
+    private final int maximumStrength;
+    private final PasswordHashingExecutor executor;
+
+    /**
+     * @param strength the BCrypt cost of new hashes
+     * @param minimumStrength the lowest cost accepted without re-hashing
+     * @param maximumStrength the highest cost accepted without re-hashing
+     * @param executor the executor running the hashing work
+     */
+    public BCryptPasswordHasher(int strength, int minimumStrength, int maximumStrength, PasswordHashingExecutor executor) {
+        if (minimumStrength > strength || strength > maximumStrength) {
+            throw new IllegalArgumentException("Strength must lie between the minimum and maximum strength");
+        }
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.minimumStrength = minimumStrength;
+        this.maximumStrength = maximumStrength;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public PasswordHash hash(String rawPassword) {
+        return PasswordHash.fromString(executor.execute(() -> encoder.encode(rawPassword)));
+    }
+
+    @Override
+    public List<PasswordHash> hashAll(List<String> rawPasswords) {
+        List<Supplier<PasswordHash>> work = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            work.add(() -> PasswordHash.fromString(encoder.encode(rawPassword)));
+        }
+        return executor.executeAll(work);
+    }
+
+    @Override
+    public boolean needsRehash(PasswordHash hash) {
+        String algorithm = hash.algorithm();
+        int cost = hash.cost();
+        return algorithm == null || !algorithm.startsWith("2") || cost < minimumStrength || cost > maximumStrength;
+    }
+
+    @Override
+    public boolean matches(String rawPassword, PasswordHash hash) {
+        if (hash == null) return false;
+        return executor.execute(() -> encoder.matches(rawPassword, hash.value()));
+    }
+
+    /**
+     * @return the BCrypt cost of new hashes
+     */
+    public int strength() {
+        return strength;
+    }
+}
@@ -0,0 +1,89 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Unpadded base64url codec working on caller-provided buffers, so encoding and decoding
+ * token parts does not allocate intermediate arrays.
+ */
+final class Base64Url {
+
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    /**
+     * @return the number of characters needed to encode {@code length} bytes
+     */
+    static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * Encodes {@code src[srcOffset, srcOffset + length)} into {@code dst} starting at {@code dstOffset}.
+     * @return the offset in {@code dst} after the last written character
+     */
+    static int encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        int end = srcOffset + length;
+        int i = srcOffset;
+        int o = dstOffset;
+        for (; i + 2 < end; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[o++] = ALPHABET[bits >>> 18];
+            dst[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+            dst[o++] = ALPHABET[bits & 0x3f];
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[o++] = ALPHABET[bits >>> 18];
+            dst[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[o++] = ALPHABET[bits >>> 18];
+            dst[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+        }
+        return o;
+    }
+
+    /**
+     * Decodes the characters {@code src[start, end)} into {@code dst}, which must be exactly the decoded length.
+     * @return true if the characters were valid base64url of the expected length, in the one form
+     * {@link #encode} writes: bits of the last character past the last byte must be zero, so a token
+     * has a single valid encoding
+     */
+    static boolean decode(CharSequence src, int start, int end, byte[] dst) {
+        if (end - start != encodedLength(dst.length)) return false;
+
+        int o = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            char c = src.charAt(i);
+            int value = c < 128 ? DECODE[c] : -1;
+            if (value < 0) return false;
+
+            bits = bits << 6 | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[o++] = (byte) (bits >>> bitCount);
+            }
+        }
+        return (bits & ((1 << bitCount) - 1)) == 0;
+    }
+}
@@ -0,0 +1,188 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TokenGenerator;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.jmgrgo.taskapp.domain.user.value.UserRole;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Issues and verifies compact, stateless HMAC-SHA256 signed tokens.
+ * <p>
+ * A token is {@code base64url(payload) "." base64url(signature)}, where the 26-byte payload holds a
+ * format version, the user id, a role bitmask and the expiry in epoch seconds. Verification needs
+ * neither the database nor any shared state, so it can run on every authenticated request.
+ * <p>
+ * {@link Mac} instances and scratch buffers are taken from a small pool and returned after each
+ * call, so issuing a token allocates only the resulting string and verifying one only the returned
+ * {@link VerifiedToken}. They are pooled rather than kept per thread: with virtual threads every
+ * request runs on a new thread, which would build a fresh {@link Mac} each time.
+ */
+public class HmacTokenService implements TokenGenerator {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+
+    private static final int PAYLOAD_LENGTH = 1 + 16 + 1 + 8;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_PAYLOAD_LENGTH = Base64Url.encodedLength(PAYLOAD_LENGTH);
+    private static final int TOKEN_LENGTH = ENCODED_PAYLOAD_LENGTH + 1 + Base64Url.encodedLength(SIGNATURE_LENGTH);
+
+    private final SecretKeySpec key;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ArrayBlockingQueue<Buffers> pool;
+
+    /**
+     * @param secret the signing key, at least 32 bytes
+     * @param timeToLive how long issued tokens stay valid
+     * @param clock the clock used for issuing and expiry checks
+     */
+    public HmacTokenService(byte[] secret, Duration timeToLive, Clock clock) {
+        if (secret.length < SIGNATURE_LENGTH) {
+            throw new IllegalArgumentException("Token secret must be at least " + SIGNATURE_LENGTH + " bytes");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.clock = Objects.requireNonNull(clock);
+        this.pool = new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public String generate(User user) {
+        long expiresAt = clock.now().plus(timeToLive).getEpochSecond();
+        return issue(user.getId().value(), user.getRoleMask(), expiresAt);
+    }
+
+    /**
+     * Verifies the signature and expiry of a token.
+     * @param token the token as sent by the client
+     * @return the verified claims, or null if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.length() != TOKEN_LENGTH || token.charAt(ENCODED_PAYLOAD_LENGTH) != '.') {
+            return null;
+        }
+
+        // Decode both parts into pooled scratch buffers
+        Buffers b = acquire();
+        try {
+            if (!Base64Url.decode(token, 0, ENCODED_PAYLOAD_LENGTH, b.payload)
+                    || !Base64Url.decode(token, ENCODED_PAYLOAD_LENGTH + 1, TOKEN_LENGTH, b.signature)) {
+                return null;
+            }
+
+            // Recompute the signature and compare in constant time
+            sign(b, b.expectedSignature);
+            if (!MessageDigest.isEqual(b.signature, b.expectedSignature) || b.payload[0] != VERSION) {
+                return null;
+            }
+
+            long expiresAt = readLong(b.payload, 18);
+            if (clock.now().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+
+            UUID userId = new UUID(readLong(b.payload, 1), readLong(b.payload, 9));
+            return new VerifiedToken(new UserId(userId), b.payload[17] & 0xff, expiresAt);
+        } finally {
+            pool.offer(b);
+        }
+    }
+
+    private String issue(UUID userId, int roleMask, long expiresAt) {
+        Buffers b = acquire();
+        try {
+            // Payload: version, user id, roles, expiry
+            byte[] payload = b.payload;
+            payload[0] = VERSION;
+            writeLong(payload, 1, userId.getMostSignificantBits());
+            writeLong(payload, 9, userId.getLeastSignificantBits());
+            payload[17] = (byte) roleMask;
+            writeLong(payload, 18, expiresAt);
+
+            // Encode payload and signature straight into the output buffer
+            sign(b, b.signature);
+            byte[] out = b.token;
+            int offset = Base64Url.encode(payload, 0, PAYLOAD_LENGTH, out, 0);
+            out[offset++] = '.';
+            offset = Base64Url.encode(b.signature, 0, SIGNATURE_LENGTH, out, offset);
+            return new String(out, 0, offset, StandardCharsets.ISO_8859_1);
+        } finally {
+            pool.offer(b);
+        }
+    }
+
+    /**
+     * @return pooled buffers, or new ones when every pooled set is in use; a full pool drops them on return
+     */
+    private Buffers acquire() {
+        Buffers b = pool.poll();
+        return b != null ? b : new Buffers(newMac(key));
+    }
+
+    private static void sign(Buffers b, byte[] signature) {
+        try {
+            b.mac.update(b.payload, 0, PAYLOAD_LENGTH);
+            b.mac.doFinal(signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = value << 8 | (bytes[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Claims of a token whose signature and expiry were verified.
+     * @param userId the authenticated user
+     * @param roleMask the user's roles as a {@link UserRole} bitmask
+     * @param expiresAt the expiry in epoch seconds
+     */
+    public record VerifiedToken(UserId userId, int roleMask, long expiresAt) {}
+
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] payload = new byte[PAYLOAD_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] token = new byte[TOKEN_LENGTH];
+
+        private Buffers(Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
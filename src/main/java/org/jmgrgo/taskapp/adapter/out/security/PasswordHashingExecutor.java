@@ -0,0 +1,169 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jmgrgo.taskapp.application.exception.PasswordHashingUnavailableException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing work on a dedicated, fixed-size pool of platform threads.
+ * <p>
+ * The pool has one worker per core and a bounded queue. When the queue is full, work is
+ * rejected immediately with {@link PasswordHashingUnavailableException} instead of piling up,
+ * so a login burst cannot take CPU away from every other endpoint. Callers block until their
+ * task completes; virtual threads unmount while waiting.
+ * <p>
+ * BCrypt is pure computation that never blocks, so a virtual thread running it would hold its
+ * carrier for the whole hash. Workers are therefore always platform threads, and callers on virtual
+ * threads only park on the task's future, which releases their carrier.
+ */
+public class PasswordHashingExecutor implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param threads the number of worker threads
+     * @param queueCapacity the maximum number of tasks waiting for a worker
+     * @param registry the registry receiving queue depth, wait time and rejection metrics
+     */
+    public PasswordHashingExecutor(int threads, int queueCapacity, MeterRegistry registry) {
+        ThreadFactory threadFactory = Thread.ofPlatform().name("password-hashing-", 1).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("Time hashing tasks spend queued before a worker picks them up")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.executionTimer = Timer.builder("password.hashing.execution")
+                .description("Time spent hashing or verifying a password")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing tasks waiting for a worker")
+                .register(registry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing tasks currently running")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", rejections, LongAdder::sum)
+                .description("Hashing tasks rejected because the queue was full")
+                .register(registry);
+    }
+
+    /**
+     * Runs {@code work} on a hashing worker and waits for its result.
+     * @param work the hashing work
+     * @return the result of {@code work}
+     * @throws PasswordHashingUnavailableException if the queue is full or the caller is interrupted
+     */
+    public <T> T execute(Supplier<T> work) {
+        Future<T> future = submit(work);
+        if (future == null) {
+            rejections.increment();
+            throw new PasswordHashingUnavailableException("Password hashing capacity exceeded");
+        }
+        return await(future);
+    }
+
+    /**
+     * Runs a batch of hashing work across the workers and waits for every result.
+     * <p>
+     * At most one task per worker is outstanding at a time, so a batch never fills the queue and
+     * interactive logins keep their place in it. When a task is rejected anyway, the batch waits for
+     * its oldest task and tries again.
+     * @param work the hashing work
+     * @return the results, in the order of {@code work}
+     * @throws PasswordHashingUnavailableException if a task is rejected while none of the batch is running,
+     * or the caller is interrupted
+     */
+    public <T> List<T> executeAll(List<? extends Supplier<T>> work) {
+        int window = executor.getMaximumPoolSize();
+        List<T> results = new ArrayList<>(work.size());
+        ArrayDeque<Future<T>> running = new ArrayDeque<>(window);
+        try {
+            for (Supplier<T> task : work) {
+                if (running.size() == window) {
+                    results.add(await(running.removeFirst()));
+                }
+                Future<T> future = submit(task);
+                while (future == null && !running.isEmpty()) {
+                    results.add(await(running.removeFirst()));
+                    future = submit(task);
+                }
+                if (future == null) {
+                    rejections.increment();
+                    throw new PasswordHashingUnavailableException("Password hashing capacity exceeded");
+                }
+                running.addLast(future);
+            }
+            while (!running.isEmpty()) {
+                results.add(await(running.removeFirst()));
+            }
+            return results;
+        } finally {
+            running.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * @return the future of the submitted task, or null if the queue is full
+     */
+    private <T> Future<T> submit(Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return work.get();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of tasks waiting for a worker
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
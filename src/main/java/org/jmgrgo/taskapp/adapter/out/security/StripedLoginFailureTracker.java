@@ -0,0 +1,177 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.LoginFailureTracker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory {@link LoginFailureTracker} with lock striping.
+ * <p>
+ * Emails are spread over a fixed number of stripes, each guarded by its own lock, so attempts
+ * against different accounts rarely contend. Each stripe holds at most {@code maxEntriesPerStripe}
+ * entries, and entries whose window or lock has passed are purged when a stripe fills up. An entry
+ * still counting is never dropped, since failures against other emails would otherwise reset the
+ * count of a targeted account: when a stripe is still full, new emails are not tracked, and
+ * {@link #recordFailure} returns {@link #UNTRACKED} so the failure is counted on the stored account.
+ */
+public class StripedLoginFailureTracker implements LoginFailureTracker, MeterBinder {
+
+    private final Stripe[] stripes;
+    private final int maxEntriesPerStripe;
+    private final Clock clock;
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * @param stripes the number of stripes, rounded up to a power of two
+     * @param maxEntriesPerStripe the maximum number of tracked emails per stripe
+     * @param clock the source of the current time, for purging entries outside {@link #recordFailure}
+     */
+    public StripedLoginFailureTracker(int stripes, int maxEntriesPerStripe, Clock clock) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.maxEntriesPerStripe = maxEntriesPerStripe;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Instant lockedUntil(String email, Instant now) {
+        Stripe stripe = stripeFor(email);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(email);
+            if (entry == null || entry.lockedUntil <= now.toEpochMilli()) {
+                return null;
+            }
+            return Instant.ofEpochMilli(entry.lockedUntil);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public int recordFailure(String email, Instant now, Duration window) {
+        long nowMillis = now.toEpochMilli();
+        Stripe stripe = stripeFor(email);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(email);
+            if (entry == null) {
+                if (!makeRoom(stripe, nowMillis)) {
+                    untracked.increment();
+                    return UNTRACKED;
+                }
+                entry = new Entry();
+                stripe.entries.put(email, entry);
+            }
+
+            // Start a new window once the previous one has passed
+            if (entry.failures == 0 || nowMillis - entry.windowStart >= window.toMillis()) {
+                entry.windowStart = nowMillis;
+                entry.failures = 0;
+            }
+            entry.windowEnd = entry.windowStart + window.toMillis();
+            return ++entry.failures;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void lock(String email, Instant until) {
+        Stripe stripe = stripeFor(email);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(email);
+            if (entry == null) {
+
+                // Without room the lock is only enforced from the stored account
+                if (!makeRoom(stripe, clock.now().toEpochMilli())) return;
+                entry = new Entry();
+                stripe.entries.put(email, entry);
+            }
+            entry.failures = 0;
+            entry.lockedUntil = until.toEpochMilli();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void reset(String email) {
+        Stripe stripe = stripeFor(email);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(email);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of tracked emails
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.login.failures.tracked", this, StripedLoginFailureTracker::size)
+                .description("Emails with recent failed logins or an active lock")
+                .register(registry);
+        FunctionCounter.builder("users.login.failures.untracked", untracked, LongAdder::sum)
+                .description("Failed logins left to the stored account because the tracker was full")
+                .register(registry);
+    }
+
+    /**
+     * @return whether the stripe has room for another entry, after purging the ones that have passed
+     */
+    private boolean makeRoom(Stripe stripe, long nowMillis) {
+        if (stripe.entries.size() < maxEntriesPerStripe) return true;
+
+        // Purge entries whose window and lock have both passed; the others are still counting
+        stripe.entries.values().removeIf(entry -> entry.windowEnd <= nowMillis && entry.lockedUntil <= nowMillis);
+        return stripe.entries.size() < maxEntriesPerStripe;
+    }
+
+    private Stripe stripeFor(String email) {
+        int hash = email.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final HashMap<String, Entry> entries = new HashMap<>();
+    }
+
+    private static final class Entry {
+        private int failures;
+        private long windowStart;
+        private long windowEnd;
+        private long lockedUntil;
+    }
+}
@@ -0,0 +1,16 @@
+package org.jmgrgo.taskapp.adapter.out.time;
+
+import org.jmgrgo.taskapp.application.port.out.Clock;
+
+import java.time.Instant;
+
+/**
+ * {@link Clock} backed by the system UTC clock.
+ */
+public class SystemClock implements Clock {
+
+    @Override
+    public Instant now() {
+        return Instant.now();
+    }
+}
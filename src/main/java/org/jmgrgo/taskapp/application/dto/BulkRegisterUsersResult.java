@@ -0,0 +1,16 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.util.List;
+
+/**
+ * @param received the number of records read
+ * @param registered the number of users registered
+ * @param failed the number of records rejected, which may exceed the errors listed
+ * @param errors the rejected records with the lowest record numbers, in record order
+ */
+public record BulkRegisterUsersResult(
+        int received,
+        int registered,
+        int failed,
+        List<BulkRegistrationError> errors
+) {}
@@ -0,0 +1,13 @@
+package org.jmgrgo.taskapp.application.dto;
+
+/**
+ * A record of a bulk registration that was not registered.
+ * @param record the 1-based position of the record in the import
+ * @param email the email, normalized once it was found valid, or null if the record could not be read
+ * @param message why the record was rejected
+ */
+public record BulkRegistrationError(
+        int record,
+        String email,
+        String message
+) {}
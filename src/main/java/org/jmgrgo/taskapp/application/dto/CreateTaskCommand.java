@@ -0,0 +1,11 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CreateTaskCommand(
+        UUID userId,
+        String title,
+        LocalDate dueDate,
+        UUID tagId
+) {}
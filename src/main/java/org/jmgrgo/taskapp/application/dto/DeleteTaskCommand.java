@@ -0,0 +1,8 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.util.UUID;
+
+public record DeleteTaskCommand(
+        UUID userId,
+        UUID taskId
+) {}
@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.util.UUID;
+
+public record ExportTasksQuery(
+        UUID userId
+) {}
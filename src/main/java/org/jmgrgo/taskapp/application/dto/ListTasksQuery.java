@@ -0,0 +1,21 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lists a user's tasks. Null filters are not applied.
+ * @param tagIds only tasks associated with one of these tags, null or empty for all tasks
+ * @param cursor the {@code nextCursor} of the previous page, null for the first page
+ * @param limit the page size, null for the default
+ */
+public record ListTasksQuery(
+        UUID userId,
+        Boolean completed,
+        List<UUID> tagIds,
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        String cursor,
+        Integer limit
+) {}
@@ -0,0 +1,11 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor the cursor of the following page, or null if this is the last one
+ */
+public record TaskPageResult(
+        List<TaskResult> tasks,
+        String nextCursor
+) {}
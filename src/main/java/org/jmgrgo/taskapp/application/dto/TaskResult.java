@@ -0,0 +1,16 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TaskResult(
+        UUID taskId,
+        String title,
+        LocalDate dueDate,
+        UUID tagId,
+        boolean completed,
+        boolean overdue,
+        Instant createdAt,
+        Instant updatedAt
+) {}
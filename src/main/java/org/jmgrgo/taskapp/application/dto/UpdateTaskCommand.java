@@ -0,0 +1,18 @@
+package org.jmgrgo.taskapp.application.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Changes the non-null fields of a task.
+ * @param removeTag whether to detach the task from its tag, ignored when {@code tagId} is set
+ */
+public record UpdateTaskCommand(
+        UUID userId,
+        UUID taskId,
+        String title,
+        LocalDate dueDate,
+        UUID tagId,
+        boolean removeTag,
+        Boolean completed
+) {}
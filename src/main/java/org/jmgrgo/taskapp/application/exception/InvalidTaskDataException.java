@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.application.exception;
+
+public class InvalidTaskDataException extends RuntimeException {
+    public InvalidTaskDataException(String message) {
+        super(message);
+    }
+}
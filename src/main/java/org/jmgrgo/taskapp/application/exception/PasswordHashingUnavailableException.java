@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.application.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package org.jmgrgo.taskapp.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a client makes more attempts than its rate limit allows.
+ * <p>
+ * Rejections are expected under abuse and carry no useful stack, so none is captured.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long the client should wait before its next attempt can be allowed
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
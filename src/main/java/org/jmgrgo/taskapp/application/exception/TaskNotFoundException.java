@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.application.exception;
+
+public class TaskNotFoundException extends RuntimeException {
+    public TaskNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.application.exception;
+
+public class UserUpdateConflictException extends RuntimeException {
+    public UserUpdateConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package org.jmgrgo.taskapp.application.port.in;
+
+import org.jmgrgo.taskapp.application.dto.BulkRegisterUsersResult;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+
+import java.util.Iterator;
+
+public interface BulkRegisterUsersUseCase {
+
+    /**
+     * Registers a stream of users, reporting the records that were rejected instead of failing the whole import.
+     * @param commands the records to register; a null element stands for a record that could not be read
+     */
+    BulkRegisterUsersResult registerUsers(Iterator<RegisterUserCommand> commands);
+}
@@ -0,0 +1,8 @@
+package org.jmgrgo.taskapp.application.port.in;
+
+import org.jmgrgo.taskapp.application.dto.CreateTaskCommand;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+
+public interface CreateTaskUseCase {
+    TaskResult createTask(CreateTaskCommand command);
+}
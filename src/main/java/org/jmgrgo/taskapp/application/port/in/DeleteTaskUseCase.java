@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.application.port.in;
+
+import org.jmgrgo.taskapp.application.dto.DeleteTaskCommand;
+
+public interface DeleteTaskUseCase {
+    void deleteTask(DeleteTaskCommand command);
+}
@@ -0,0 +1,14 @@
+package org.jmgrgo.taskapp.application.port.in;
+
+import org.jmgrgo.taskapp.application.dto.ExportTasksQuery;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+
+import java.util.function.Consumer;
+
+public interface ExportTasksUseCase {
+
+    /**
+     * Passes every task of the user to {@code sink} as it is read, in (due date, id) order.
+     */
+    void exportTasks(ExportTasksQuery query, Consumer<TaskResult> sink);
+}
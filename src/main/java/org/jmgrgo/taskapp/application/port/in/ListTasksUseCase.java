@@ -0,0 +1,8 @@
+package org.jmgrgo.taskapp.application.port.in;
+
+import org.jmgrgo.taskapp.application.dto.ListTasksQuery;
+import org.jmgrgo.taskapp.application.dto.TaskPageResult;
+
+public interface ListTasksUseCase {
+    TaskPageResult listTasks(ListTasksQuery query);
+}
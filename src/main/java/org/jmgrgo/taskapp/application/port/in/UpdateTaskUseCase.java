@@ -0,0 +1,8 @@
+package org.jmgrgo.taskapp.application.port.in;
+
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.application.dto.UpdateTaskCommand;
+
+public interface UpdateTaskUseCase {
+    TaskResult updateTask(UpdateTaskCommand command);
+}
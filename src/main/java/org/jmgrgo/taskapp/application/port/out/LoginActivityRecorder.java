@@ -0,0 +1,9 @@
+package org.jmgrgo.taskapp.application.port.out;
+
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+
+public interface LoginActivityRecorder {
+    void recordLogin(UserId userId, Instant at);
+}
@@ -0,0 +1,31 @@
+package org.jmgrgo.taskapp.application.port.out;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public interface LoginFailureTracker {
+
+    /**
+     * Returned by {@link #recordFailure} when the tracker has no room for another email.
+     */
+    int UNTRACKED = -1;
+
+    /**
+     * @return the end of the lock recorded for this email, or null if it is not locked at {@code now}
+     */
+    Instant lockedUntil(String email, Instant now);
+
+    /**
+     * Counts a failed login. Failures older than {@code window}, measured from the first one, are forgotten.
+     * @return the number of failures in the current window, including this one, or {@link #UNTRACKED}
+     * if the failure was not counted and the caller must count it itself
+     */
+    int recordFailure(String email, Instant now, Duration window);
+
+    /**
+     * Records a lock. A tracker without room may skip it, so the lock must also be stored with the account.
+     */
+    void lock(String email, Instant until);
+
+    void reset(String email);
+}
@@ -2,6 +2,22 @@ package org.jmgrgo.taskapp.application.port.out;
 
 import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface PasswordHasher {
     PasswordHash hash(String rawPassword);
+    boolean needsRehash(PasswordHash hash);
+
+    /**
+     * Hashes a batch of passwords, in parallel where the implementation can.
+     * @return the hashes, in the order of {@code rawPasswords}
+     */
+    default List<PasswordHash> hashAll(List<String> rawPasswords) {
+        List<PasswordHash> hashes = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            hashes.add(hash(rawPassword));
+        }
+        return hashes;
+    }
 }
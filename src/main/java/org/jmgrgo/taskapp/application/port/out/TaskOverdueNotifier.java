@@ -0,0 +1,14 @@
+package org.jmgrgo.taskapp.application.port.out;
+
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.LocalDate;
+
+public interface TaskOverdueNotifier {
+
+    /**
+     * Called once when an open task passes its due date.
+     */
+    void taskOverdue(UserId ownerId, TaskId taskId, LocalDate dueDate);
+}
@@ -0,0 +1,43 @@
+package org.jmgrgo.taskapp.application.port.out;
+
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Selects one page of a user's tasks, ordered by due date then id. Null criteria are not applied.
+ * @param ownerId the user whose tasks are listed
+ * @param completed only tasks with this completion status
+ * @param tagIds only tasks associated with one of these tags, all tasks if empty
+ * @param dueFrom only tasks due on or after this date
+ * @param dueTo only tasks due on or before this date
+ * @param afterDueDate the due date of the last task of the previous page, null for the first page
+ * @param afterId the id of the last task of the previous page, null for the first page
+ * @param limit the maximum number of tasks returned
+ */
+public record TaskPageQuery(
+        UserId ownerId,
+        Boolean completed,
+        Set<TagId> tagIds,
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        LocalDate afterDueDate,
+        TaskId afterId,
+        int limit
+) {
+
+    public TaskPageQuery {
+        Objects.requireNonNull(ownerId, "Owner is required");
+        tagIds = tagIds == null ? Set.of() : Set.copyOf(tagIds);
+        if ((afterDueDate == null) != (afterId == null)) {
+            throw new IllegalArgumentException("A page position needs both a due date and an id");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.jmgrgo.taskapp.application.port.out;
+
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TaskRepository {
+
+    int STREAM_PAGE_SIZE = 500;
+
+    Task save(Task task);
+
+    /**
+     * @return the task, or null if the owner has no task with this id
+     */
+    Task findById(UserId ownerId, TaskId id);
+
+    /**
+     * @return the owner's tasks with these ids, in no particular order; ids the owner has no task for are skipped
+     */
+    default List<Task> findAllById(UserId ownerId, Collection<TaskId> ids) {
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (TaskId id : ids) {
+            Task task = findById(ownerId, id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Passes every task of the owner to {@code action} in (due date, id) order, without holding them all in memory.
+     * <p>
+     * The default reads the tasks one page at a time, holding no connection or cursor while
+     * {@code action} runs, so a slow consumer cannot tie up the database.
+     */
+    default void forEachOwnedBy(UserId ownerId, Consumer<Task> action) {
+        TaskPageQuery query = new TaskPageQuery(ownerId, null, null, null, null, null, null, STREAM_PAGE_SIZE);
+        List<Task> page;
+        do {
+            page = findPage(query);
+            page.forEach(action);
+            if (!page.isEmpty()) {
+                Task last = page.getLast();
+                query = new TaskPageQuery(ownerId, null, null, null, null, last.getDueDate(), last.getId(), STREAM_PAGE_SIZE);
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    /**
+     * @return true if the owner had a task with this id
+     */
+    boolean delete(UserId ownerId, TaskId id);
+
+    /**
+     * @return up to {@code query.limit()} tasks following the query's position, in (due date, id) order
+     */
+    List<Task> findPage(TaskPageQuery query);
+}
@@ -0,0 +1,13 @@
+package org.jmgrgo.taskapp.application.port.out;
+
+import org.jmgrgo.taskapp.domain.user.event.UserEvent;
+
+public interface UserEventHandler {
+
+    /**
+     * Called for each stored user event, in the order they were stored. Delivery is at least once,
+     * so an event may be handled again after a failure or restart.
+     * @throws RuntimeException to have the event delivered again later
+     */
+    void handle(UserEvent event);
+}
@@ -1,9 +1,67 @@
 package org.jmgrgo.taskapp.application.port.out;
 
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
 import org.jmgrgo.taskapp.domain.user.User;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 public interface UserRepository {
     User save(User user);
     boolean existsByEmail(String email);
     User findByEmail(String email);
+
+    /**
+     * Inserts a new user, relying on the store's unique email constraint rather than a prior lookup.
+     * @return the inserted user
+     * @throws EmailAlreadyExistsException if the email is already registered
+     */
+    default User insert(User user) {
+        if (existsByEmail(user.getEmail().value())) {
+            throw new EmailAlreadyExistsException("Email Already In Use");
+        }
+        return save(user);
+    }
+
+    /**
+     * Tells, without a round trip to the store, whether an email might already be registered.
+     * <p>
+     * Callers use it to decide whether an {@link #existsByEmail} check is worth making before
+     * expensive work. The default knows nothing and answers false.
+     * @return false if the email is known not to be registered or nothing cheap is known about it
+     */
+    default boolean mightBeRegistered(String email) {
+        return false;
+    }
+
+    /**
+     * Checks a batch of normalized emails at once.
+     * @return the emails among {@code emails} that are already registered
+     */
+    default Set<String> findRegisteredEmails(Collection<String> emails) {
+        Set<String> registered = new HashSet<>();
+        for (String email : emails) {
+            if (existsByEmail(email)) {
+                registered.add(email);
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * Inserts new users as one batch, skipping those whose email is already registered.
+     * @return the users that were inserted
+     */
+    default List<User> insertAll(List<User> users) {
+        List<User> inserted = new ArrayList<>(users.size());
+        for (User user : users) {
+            if (!existsByEmail(user.getEmail().value())) {
+                inserted.add(save(user));
+            }
+        }
+        return inserted;
+    }
 }
@@ -0,0 +1,256 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.BulkRegisterUsersResult;
+import org.jmgrgo.taskapp.application.dto.BulkRegistrationError;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.exception.PasswordHashingUnavailableException;
+import org.jmgrgo.taskapp.application.port.in.BulkRegisterUsersUseCase;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.PasswordHasher;
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Registers users in chunks: each chunk costs one existence query, one parallel hashing batch
+ * and one batch insert, instead of a query, a hash and a save per user.
+ * <p>
+ * Records are validated as they are read and only valid ones are buffered, so an import is held in
+ * memory one chunk at a time, plus the set of emails already seen to reject duplicates within it.
+ * Both stay bounded: an import stops reading after {@code maxRecords} records, and the result lists
+ * the first {@code maxErrors} rejected records along with the count of all of them.
+ * <p>
+ * Chunks commit as they go, so an import that cannot go on does not fail as a whole: once password
+ * hashing is unavailable, the records of the chunk being hashed and every valid record after it are
+ * reported as not registered, and the chunks already inserted stay registered.
+ */
+public class BulkRegisterUsersService implements BulkRegisterUsersUseCase {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int maxRecords;
+    private final int maxErrors;
+
+    /**
+     * @param chunkSize the number of valid records checked, hashed and inserted together
+     * @param maxRecords the number of records read from one import, later ones are rejected unread
+     * @param maxErrors the number of rejected records listed in the result
+     */
+    public BulkRegisterUsersService(UserRepository userRepository, PasswordHasher passwordHasher, Clock clock,
+                                    int chunkSize, int maxRecords, int maxErrors) {
+        if (chunkSize < 1 || maxRecords < 1 || maxErrors < 1) {
+            throw new IllegalArgumentException("Chunk size and limits must be positive");
+        }
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.maxRecords = maxRecords;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public BulkRegisterUsersResult registerUsers(Iterator<RegisterUserCommand> commands) {
+        Objects.requireNonNull(commands, "Commands are required");
+
+        Rejections errors = new Rejections(maxErrors);
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+        int received = 0;
+        int registered = 0;
+
+        while (commands.hasNext()) {
+            if (received == maxRecords) {
+                errors.add(new BulkRegistrationError(received + 1, null,
+                        "Import exceeds " + maxRecords + " records, this and later records were not read"));
+                break;
+            }
+            RegisterUserCommand command = commands.next();
+            int record = ++received;
+
+            // Validate the record and normalize its email
+            String error = validate(command);
+            if (error != null) {
+                errors.add(new BulkRegistrationError(record, command == null ? null : command.email(), error));
+                continue;
+            }
+            EmailAddress email = EmailAddress.fromString(command.email());
+            if (!seenEmails.add(email.value())) {
+                errors.add(new BulkRegistrationError(record, command.email(), "Duplicate email in import"));
+                continue;
+            }
+
+            PendingUser pending = new PendingUser(record, email, command.password());
+            if (errors.hashingUnavailable) {
+                errors.add(hashingUnavailable(pending));
+                continue;
+            }
+            chunk.add(pending);
+            if (chunk.size() == chunkSize) {
+                registered += registerChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            registered += registerChunk(chunk, errors);
+        }
+
+        return new BulkRegisterUsersResult(received, registered, errors.count, errors.sorted());
+    }
+
+    /**
+     * @return the number of users registered from {@code chunk}
+     */
+    private int registerChunk(List<PendingUser> chunk, Rejections errors) {
+
+        // Drop the emails already registered, in one query
+        List<String> emails = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            emails.add(pending.email().value());
+        }
+        Set<String> registeredEmails = userRepository.findRegisteredEmails(emails);
+        List<PendingUser> available = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (registeredEmails.contains(pending.email().value())) {
+                errors.add(alreadyInUse(pending));
+            } else {
+                available.add(pending);
+            }
+        }
+        if (available.isEmpty()) return 0;
+
+        // Hash the passwords in parallel and build the users
+        List<PasswordHash> hashes;
+        try {
+            hashes = hashAll(available, errors);
+        } catch (PasswordHashingUnavailableException e) {
+            errors.hashingUnavailable = true;
+            for (PendingUser pending : available) {
+                errors.add(hashingUnavailable(pending));
+            }
+            return 0;
+        }
+        Instant now = clock.now();
+        List<User> users = new ArrayList<>(available.size());
+        Map<String, PendingUser> pendingByEmail = new HashMap<>();
+        for (int i = 0; i < available.size(); i++) {
+            PasswordHash hash = hashes.get(i);
+            if (hash != null) {
+                PendingUser pending = available.get(i);
+                users.add(User.create(pending.email(), hash, null, now));
+                pendingByEmail.put(pending.email().value(), pending);
+            }
+        }
+
+        // Insert in one batch, reporting emails registered since the check
+        List<User> inserted = userRepository.insertAll(users);
+        for (User user : inserted) {
+            pendingByEmail.remove(user.getEmail().value());
+        }
+        for (PendingUser pending : pendingByEmail.values()) {
+            errors.add(alreadyInUse(pending));
+        }
+        return inserted.size();
+    }
+
+    /**
+     * Hashes the chunk as one batch, falling back to one password at a time to find the ones that fail.
+     * Reports nothing if hashing turns out to be unavailable.
+     * @return the hashes in chunk order, null for passwords that could not be hashed
+     */
+    private List<PasswordHash> hashAll(List<PendingUser> chunk, Rejections errors) {
+        List<String> passwords = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            passwords.add(pending.password());
+        }
+
+        try {
+            return passwordHasher.hashAll(passwords);
+        } catch (PasswordHashingUnavailableException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            List<PasswordHash> hashes = new ArrayList<>(chunk.size());
+            List<BulkRegistrationError> invalid = new ArrayList<>();
+            for (PendingUser pending : chunk) {
+                try {
+                    hashes.add(passwordHasher.hash(pending.password()));
+                } catch (PasswordHashingUnavailableException unavailable) {
+                    throw unavailable;
+                } catch (RuntimeException failure) {
+                    hashes.add(null);
+                    invalid.add(new BulkRegistrationError(pending.record(), pending.email().value(), "Invalid password"));
+                }
+            }
+            invalid.forEach(errors::add);
+            return hashes;
+        }
+    }
+
+    /**
+     * @return the reason the command cannot be registered, or null if it is valid
+     */
+    private static String validate(RegisterUserCommand command) {
+        if (command == null) {
+            return "Malformed record";
+        }
+        if (command.email() == null || command.email().isBlank()) {
+            return "Email is required";
+        }
+        if (command.password() == null || command.password().isBlank()) {
+            return "Password is required";
+        }
+        if (!EmailAddress.isValid(command.email())) {
+            return "Invalid email format";
+        }
+        return null;
+    }
+
+    private static BulkRegistrationError alreadyInUse(PendingUser pending) {
+        return new BulkRegistrationError(pending.record(), pending.email().value(), "Email Already In Use");
+    }
+
+    private static BulkRegistrationError hashingUnavailable(PendingUser pending) {
+        return new BulkRegistrationError(pending.record(), pending.email().value(), "Password hashing unavailable, not registered");
+    }
+
+    private record PendingUser(int record, EmailAddress email, String password) {}
+
+    /**
+     * What an import has run into so far: its rejected records, all counted but only the {@code limit}
+     * with the lowest record numbers kept, and whether password hashing was found unavailable.
+     */
+    private static final class Rejections {
+
+        private final int limit;
+        private final PriorityQueue<BulkRegistrationError> kept;
+        private int count;
+        private boolean hashingUnavailable;
+
+        private Rejections(int limit) {
+            this.limit = limit;
+            this.kept = new PriorityQueue<>(Comparator.comparingInt(BulkRegistrationError::record).reversed());
+        }
+
+        void add(BulkRegistrationError error) {
+            count++;
+            if (kept.size() < limit) {
+                kept.add(error);
+            } else if (error.record() < kept.peek().record()) {
+                kept.poll();
+                kept.add(error);
+            }
+        }
+
+        List<BulkRegistrationError> sorted() {
+            List<BulkRegistrationError> errors = new ArrayList<>(kept);
+            errors.sort(Comparator.comparingInt(BulkRegistrationError::record));
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.CreateTaskCommand;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.application.exception.InvalidTaskDataException;
+import org.jmgrgo.taskapp.application.port.in.CreateTaskUseCase;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class CreateTaskService implements CreateTaskUseCase {
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    public CreateTaskService(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public TaskResult createTask(CreateTaskCommand command) {
+
+        // Validate input data
+        validateCommand(command);
+
+        // Set current operation time
+        Instant now = clock.now();
+
+        // Create new task and save it
+        Task task = Task.create(
+                new UserId(command.userId()),
+                TaskTitle.fromString(command.title()),
+                command.dueDate(),
+                command.tagId() == null ? null : new TagId(command.tagId()),
+                now);
+        taskRepository.save(task);
+
+        return TaskResults.from(task, TaskResults.today(now));
+    }
+
+    private void validateCommand(CreateTaskCommand command) {
+        Objects.requireNonNull(command, "Command is required");
+        Objects.requireNonNull(command.userId(), "User is required");
+
+        if (command.title() == null || command.title().isBlank()) {
+            throw new InvalidTaskDataException("Title is required");
+        }
+
+        if (command.dueDate() == null) {
+            throw new InvalidTaskDataException("Due date is required");
+        }
+    }
+}
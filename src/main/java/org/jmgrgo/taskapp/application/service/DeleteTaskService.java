@@ -0,0 +1,30 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.DeleteTaskCommand;
+import org.jmgrgo.taskapp.application.exception.TaskNotFoundException;
+import org.jmgrgo.taskapp.application.port.in.DeleteTaskUseCase;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.util.Objects;
+
+public class DeleteTaskService implements DeleteTaskUseCase {
+
+    private final TaskRepository taskRepository;
+
+    public DeleteTaskService(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public void deleteTask(DeleteTaskCommand command) {
+        Objects.requireNonNull(command, "Command is required");
+        Objects.requireNonNull(command.userId(), "User is required");
+        Objects.requireNonNull(command.taskId(), "Task is required");
+
+        if (!taskRepository.delete(new UserId(command.userId()), new TaskId(command.taskId()))) {
+            throw new TaskNotFoundException("Task not found");
+        }
+    }
+}
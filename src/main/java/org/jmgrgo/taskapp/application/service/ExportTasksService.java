@@ -0,0 +1,38 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.ExportTasksQuery;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.application.port.in.ExportTasksUseCase;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Streams all of a user's tasks to a sink, one at a time, so an export never holds the
+ * user's task list in memory and runs at the pace of whoever consumes it.
+ */
+public class ExportTasksService implements ExportTasksUseCase {
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    public ExportTasksService(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public void exportTasks(ExportTasksQuery query, Consumer<TaskResult> sink) {
+        Objects.requireNonNull(query, "Query is required");
+        Objects.requireNonNull(query.userId(), "User is required");
+        Objects.requireNonNull(sink, "Sink is required");
+
+        // Overdue flags are relative to when the export started
+        LocalDate today = TaskResults.today(clock.now());
+        taskRepository.forEachOwnedBy(new UserId(query.userId()), task -> sink.accept(TaskResults.from(task, today)));
+    }
+}
@@ -0,0 +1,117 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.ListTasksQuery;
+import org.jmgrgo.taskapp.application.dto.TaskPageResult;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.application.exception.InvalidTaskDataException;
+import org.jmgrgo.taskapp.application.port.in.ListTasksUseCase;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lists a user's tasks one page at a time, ordered by due date then id.
+ * <p>
+ * Pages are addressed by the key of their predecessor's last task rather than by an offset, so
+ * the repository seeks straight to the page in its index and a deep page costs the same as the
+ * first one. The cursor handed to clients is that key, encoded as an opaque string.
+ */
+public class ListTasksService implements ListTasksUseCase {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final char CURSOR_SEPARATOR = '~';
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    public ListTasksService(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public TaskPageResult listTasks(ListTasksQuery query) {
+        Objects.requireNonNull(query, "Query is required");
+        Objects.requireNonNull(query.userId(), "User is required");
+
+        // Validate the filters and page size
+        int limit = query.limit() == null ? DEFAULT_LIMIT : query.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidTaskDataException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (query.dueFrom() != null && query.dueTo() != null && query.dueFrom().isAfter(query.dueTo())) {
+            throw new InvalidTaskDataException("Due date range is empty");
+        }
+
+        // Fetch one extra task to know whether another page follows
+        Position after = query.cursor() == null ? null : decodeCursor(query.cursor());
+        List<Task> tasks = taskRepository.findPage(new TaskPageQuery(
+                new UserId(query.userId()),
+                query.completed(),
+                toTagIds(query.tagIds()),
+                query.dueFrom(),
+                query.dueTo(),
+                after == null ? null : after.dueDate(),
+                after == null ? null : after.taskId(),
+                limit + 1));
+
+        // Build result dto
+        LocalDate today = TaskResults.today(clock.now());
+        int size = Math.min(tasks.size(), limit);
+        List<TaskResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(TaskResults.from(tasks.get(i), today));
+        }
+        String nextCursor = tasks.size() > limit ? encodeCursor(tasks.get(limit - 1)) : null;
+        return new TaskPageResult(results, nextCursor);
+    }
+
+    private static Set<TagId> toTagIds(List<UUID> tagIds) {
+        if (tagIds == null) return Set.of();
+
+        Set<TagId> result = new HashSet<>(tagIds.size());
+        for (UUID tagId : tagIds) {
+            result.add(new TagId(tagId));
+        }
+        return result;
+    }
+
+    private static String encodeCursor(Task last) {
+        String position = last.getDueDate().toString() + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Position decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = position.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidTaskDataException("Invalid cursor");
+            }
+            return new Position(
+                    LocalDate.parse(position.substring(0, separator)),
+                    TaskId.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidTaskDataException("Invalid cursor");
+        }
+    }
+
+    private record Position(LocalDate dueDate, TaskId taskId) {}
+}
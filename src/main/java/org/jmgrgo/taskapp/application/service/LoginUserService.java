@@ -3,31 +3,52 @@ package org.jmgrgo.taskapp.application.service;
 import org.jmgrgo.taskapp.application.dto.LoginUserCommand;
 import org.jmgrgo.taskapp.application.dto.LoginUserResult;
 import org.jmgrgo.taskapp.application.exception.InvalidCredentialsException;
+import org.jmgrgo.taskapp.application.exception.UserUpdateConflictException;
 import org.jmgrgo.taskapp.application.port.in.LoginUserUseCase;
 import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.LoginActivityRecorder;
+import org.jmgrgo.taskapp.application.port.out.LoginFailureTracker;
+import org.jmgrgo.taskapp.application.port.out.PasswordHasher;
 import org.jmgrgo.taskapp.application.port.out.PasswordMatchVerifier;
 import org.jmgrgo.taskapp.application.port.out.TokenGenerator;
 import org.jmgrgo.taskapp.application.port.out.UserRepository;
 import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.exception.UserIsLockedException;
 import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
-
+import java.util.function.Consumer;
+
+/**
+ * Authenticates users and records the outcome on their account.
+ * <p>
+ * Logins for one account can run concurrently. Saves are version checked, so when another login
+ * saved the account first, the account is reloaded and the same change applied again, up to
+ * {@value #MAX_SAVE_ATTEMPTS} times, instead of holding a lock on the account for every login.
+ */
 public class LoginUserService implements LoginUserUseCase {
 
     private static final Duration LOCK_DURATION = Duration.ofMinutes(15);
+    private static final int MAX_SAVE_ATTEMPTS = 5;
 
     private final UserRepository userRepository;
     private final PasswordMatchVerifier passwordVerifier;
+    private final PasswordHasher passwordHasher;
     private final TokenGenerator tokenGenerator;
+    private final LoginActivityRecorder loginActivityRecorder;
+    private final LoginFailureTracker loginFailureTracker;
     private final Clock clock;
 
-    public LoginUserService(UserRepository userRepository, PasswordMatchVerifier passwordVerifier, TokenGenerator tokenGenerator, Clock clock) {
+    public LoginUserService(UserRepository userRepository, PasswordMatchVerifier passwordVerifier, PasswordHasher passwordHasher, TokenGenerator tokenGenerator, LoginActivityRecorder loginActivityRecorder, LoginFailureTracker loginFailureTracker, Clock clock) {
         this.userRepository = userRepository;
         this.passwordVerifier = passwordVerifier;
+        this.passwordHasher = passwordHasher;
         this.tokenGenerator = tokenGenerator;
+        this.loginActivityRecorder = loginActivityRecorder;
+        this.loginFailureTracker = loginFailureTracker;
         this.clock = clock;
     }
 
@@ -40,20 +61,69 @@ public class LoginUserService implements LoginUserUseCase {
         // Set current operation time
         Instant now = clock.now();
 
+        // Reject accounts locked in memory before touching the database
+        String email = EmailAddress.fromString(command.email()).value();
+        if (loginFailureTracker.lockedUntil(email, now) != null) {
+            throw new UserIsLockedException("Account is locked");
+        }
+
         // Find user
-        User user = userRepository
-                .findByEmail(EmailAddress.fromString(command.email()).value());
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new InvalidCredentialsException("Invalid credentials");
+        }
+
+        // Reject persisted locks before running the password check, whatever the password
+        if (user.isLocked(now)) {
+            loginFailureTracker.lock(email, user.getAccountLockedUntil());
+            throw new UserIsLockedException("Account is locked");
+        }
 
-        // Check if command password matches user password
+        // Check if command password matches user password, persisting only a lock or failures the tracker cannot hold
         if (!passwordVerifier.matches(command.password(), user.getPasswordHash())) {
-            user.recordFailedLogin(now, LOCK_DURATION);
-            userRepository.save(user);
+            int failures = loginFailureTracker.recordFailure(email, now, LOCK_DURATION);
+            if (failures == LoginFailureTracker.UNTRACKED) {
+
+                // The tracker is full: count the failure on the stored account instead
+                user = save(user, failed -> failed.recordFailedLogin(now, LOCK_DURATION));
+            } else if (failures >= User.MAX_FAILED_LOGIN_ATTEMPTS) {
+                user = save(user, locked -> locked.lock(now, LOCK_DURATION));
+            }
+            if (user.isLocked(now)) {
+                loginFailureTracker.lock(email, user.getAccountLockedUntil());
+            }
             throw new InvalidCredentialsException("Invalid credentials");
         }
-
-        // Record login and save
-        user.recordSuccessfulLogin(now);
-        userRepository.save(user);
+        loginFailureTracker.reset(email);
+
+        // Record login, clearing any failed attempts or expired lock
+        boolean clearsLoginFailures = user.getFailedLoginAttempts() > 0 || user.getAccountLockedUntil() != null;
+
+        // Hash once with the current policy if the stored hash no longer follows it
+        PasswordHash verifiedHash = user.getPasswordHash();
+        PasswordHash upgradedHash = passwordHasher.needsRehash(verifiedHash) ? passwordHasher.hash(command.password()) : null;
+
+        Consumer<User> login = current -> {
+
+            // The password changed since it was checked: check it against the new hash
+            PasswordHash currentHash = current.getPasswordHash();
+            if (!verifiedHash.equals(currentHash)
+                    && (currentHash == null || !passwordVerifier.matches(command.password(), currentHash))) {
+                throw new InvalidCredentialsException("Invalid credentials");
+            }
+            current.recordSuccessfulLogin(now);
+            if (upgradedHash != null && passwordHasher.needsRehash(current.getPasswordHash())) {
+                current.upgradePasswordHash(upgradedHash, now);
+            }
+        };
+
+        // Write security relevant changes through, leave activity-only updates to the recorder
+        if (clearsLoginFailures || upgradedHash != null) {
+            user = save(user, login);
+        } else {
+            login.accept(user);
+            loginActivityRecorder.recordLogin(user.getId(), now);
+        }
 
         // Generate token
         String token = tokenGenerator.generate(user);
@@ -62,6 +132,28 @@ public class LoginUserService implements LoginUserUseCase {
         return new LoginUserResult(token);
     }
 
+    /**
+     * Applies {@code change} to {@code user} and saves it. When another save got there first, the user
+     * is reloaded and {@code change} applied to the fresh copy, so it must only depend on that copy.
+     * @return the saved user
+     * @throws UserUpdateConflictException if every attempt lost to a concurrent save
+     */
+    private User save(User user, Consumer<User> change) {
+        for (int attempt = 1; ; attempt++) {
+            change.accept(user);
+            try {
+                return userRepository.save(user);
+            } catch (UserUpdateConflictException e) {
+                if (attempt == MAX_SAVE_ATTEMPTS) throw e;
+
+                user = userRepository.findByEmail(user.getEmail().value());
+                if (user == null) {
+                    throw new InvalidCredentialsException("Invalid credentials");
+                }
+            }
+        }
+    }
+
     private void validate(LoginUserCommand command) {
         Objects.requireNonNull(command, "Command is required");
 
@@ -33,8 +33,12 @@ public class RegisterUserService implements RegisterUserUseCase {
         // Validate input data
         validateCommand(command);
 
-        // Verify email is available
-        if (userRepository.existsByEmail(command.email())){
+        // Normalize email
+        EmailAddress email = EmailAddress.fromString(command.email());
+
+        // Verify email is available only when it is likely taken, to skip hashing a duplicate;
+        // otherwise the insert's unique constraint decides
+        if (userRepository.mightBeRegistered(email.value()) && userRepository.existsByEmail(email.value())) {
             throw new EmailAlreadyExistsException("Email Already In Use");
         }
 
@@ -42,12 +46,11 @@ public class RegisterUserService implements RegisterUserUseCase {
         Instant now = clock.now();
 
         // Create user value objects
-        EmailAddress email = EmailAddress.fromString(command.email());
         PasswordHash passwordHash = passwordHasher.hash(command.password());
 
-        // Create new user and save it
+        // Create new user and insert it, failing if the email was taken meanwhile
         User user = User.create(email, passwordHash, null, now);
-        userRepository.save(user);
+        userRepository.insert(user);
 
         // Build result dto
         return new RegisterUserResult(
@@ -0,0 +1,37 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.domain.task.Task;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Maps tasks to the result returned by the task use cases.
+ */
+final class TaskResults {
+
+    private TaskResults() {
+    }
+
+    /**
+     * @return the current date against which due dates are compared
+     */
+    static LocalDate today(Instant now) {
+        return LocalDate.ofInstant(now, ZoneOffset.UTC);
+    }
+
+    static TaskResult from(Task task, LocalDate today) {
+        return new TaskResult(
+                task.getId().value(),
+                task.getTitle().value(),
+                task.getDueDate(),
+                task.getTagId() == null ? null : task.getTagId().value(),
+                task.isCompleted(),
+                task.isOverdue(today),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
+}
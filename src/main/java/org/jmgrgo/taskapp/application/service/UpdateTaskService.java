@@ -0,0 +1,64 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.application.dto.UpdateTaskCommand;
+import org.jmgrgo.taskapp.application.exception.TaskNotFoundException;
+import org.jmgrgo.taskapp.application.port.in.UpdateTaskUseCase;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class UpdateTaskService implements UpdateTaskUseCase {
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    public UpdateTaskService(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public TaskResult updateTask(UpdateTaskCommand command) {
+        Objects.requireNonNull(command, "Command is required");
+        Objects.requireNonNull(command.userId(), "User is required");
+        Objects.requireNonNull(command.taskId(), "Task is required");
+
+        // Set current operation time
+        Instant now = clock.now();
+
+        // Find the task among the user's own
+        Task task = taskRepository.findById(new UserId(command.userId()), new TaskId(command.taskId()));
+        if (task == null) {
+            throw new TaskNotFoundException("Task not found");
+        }
+
+        // Apply the requested changes
+        if (command.title() != null) {
+            task.rename(TaskTitle.fromString(command.title()), now);
+        }
+        if (command.dueDate() != null) {
+            task.reschedule(command.dueDate(), now);
+        }
+        if (command.tagId() != null) {
+            task.retag(new TagId(command.tagId()), now);
+        } else if (command.removeTag()) {
+            task.retag(null, now);
+        }
+        if (Boolean.TRUE.equals(command.completed())) {
+            task.complete(now);
+        } else if (Boolean.FALSE.equals(command.completed())) {
+            task.reopen(now);
+        }
+
+        taskRepository.save(task);
+        return TaskResults.from(task, TaskResults.today(now));
+    }
+}
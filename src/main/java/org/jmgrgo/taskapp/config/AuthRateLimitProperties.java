@@ -0,0 +1,25 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the rate limits on the registration and login endpoints.
+ * @param enabled whether attempts are rate limited
+ * @param addressCapacity the attempts one client address may make in a burst
+ * @param addressRefillInterval the time after which a client address may make one more attempt
+ * @param emailCapacity the attempts for one email allowed in a burst
+ * @param emailRefillInterval the time after which one more attempt for an email is allowed
+ * @param maximumKeys the addresses, and separately the emails, tracked before new ones are turned away
+ */
+@ConfigurationProperties("taskapp.auth-rate-limit")
+public record AuthRateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int addressCapacity,
+        @DefaultValue("200ms") Duration addressRefillInterval,
+        @DefaultValue("10") int emailCapacity,
+        @DefaultValue("6s") Duration emailRefillInterval,
+        @DefaultValue("100000") int maximumKeys
+) {}
@@ -0,0 +1,17 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of bulk user registration.
+ * @param chunkSize the number of valid records checked, hashed and inserted together
+ * @param maxRecords the number of records read from one import, later ones are rejected unread
+ * @param maxErrors the number of rejected records listed in the result of one import
+ */
+@ConfigurationProperties("taskapp.bulk-registration")
+public record BulkRegistrationProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("100000") int maxRecords,
+        @DefaultValue("1000") int maxErrors
+) {}
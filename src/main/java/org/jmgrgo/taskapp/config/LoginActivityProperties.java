@@ -0,0 +1,19 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the login activity write-behind buffer.
+ * @param writeBehind whether activity-only login updates are buffered instead of written on each login
+ * @param flushInterval the maximum time a login stays buffered
+ * @param maxPending the number of buffered users triggering an early flush
+ */
+@ConfigurationProperties("taskapp.login-activity")
+public record LoginActivityProperties(
+        @DefaultValue("true") boolean writeBehind,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("1000") int maxPending
+) {}
@@ -0,0 +1,15 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the in-memory failed login tracker.
+ * @param stripes the number of independently locked partitions
+ * @param maxEntriesPerStripe the maximum number of tracked emails per partition
+ */
+@ConfigurationProperties("taskapp.login-failures")
+public record LoginFailureProperties(
+        @DefaultValue("64") int stripes,
+        @DefaultValue("4096") int maxEntriesPerStripe
+) {}
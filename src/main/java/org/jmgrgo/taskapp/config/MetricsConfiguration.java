@@ -0,0 +1,26 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.metrics.PortMetrics;
+import org.jmgrgo.taskapp.adapter.metrics.PortMetricsEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the meters shared by the metered port decorators and the endpoint exposing them.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PortMetricsProperties.class)
+public class MetricsConfiguration {
+
+    @Bean
+    public PortMetrics portMetrics(MeterRegistry meterRegistry) {
+        return new PortMetrics(meterRegistry);
+    }
+
+    @Bean
+    public PortMetricsEndpoint portMetricsEndpoint(PortMetrics portMetrics) {
+        return new PortMetricsEndpoint(portMetrics);
+    }
+}
@@ -0,0 +1,19 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the overdue task notifications.
+ * @param enabled whether open tasks are scheduled and notified when they pass their due date
+ * @param tick the resolution of the schedule, and how often it is advanced
+ * @param lease how long the instance notifying keeps the schedule without renewing, and so how long it takes over after a crash
+ */
+@ConfigurationProperties("taskapp.overdue-notification")
+public record OverdueNotificationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("30s") Duration lease
+) {}
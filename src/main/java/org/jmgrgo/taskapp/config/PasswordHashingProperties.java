@@ -0,0 +1,30 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the password hashing engine.
+ * @param threads the number of hashing workers, one per available core when zero or negative
+ * @param queueCapacity the number of hashing tasks allowed to wait for a worker before new ones are rejected
+ * @param strength the BCrypt cost of new hashes, calibrated at startup when zero or negative
+ * @param minimumStrength the lowest BCrypt cost accepted; weaker hashes are upgraded on login
+ * @param maximumStrength the highest BCrypt cost calibration may pick; stronger hashes are brought down to {@code strength} on login
+ * @param targetLatency the time budget for hashing one password on one core, used by calibration
+ */
+@ConfigurationProperties("taskapp.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("0") int strength,
+        @DefaultValue("10") int minimumStrength,
+        @DefaultValue("14") int maximumStrength,
+        @DefaultValue("250ms") Duration targetLatency
+) {
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,133 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.metrics.MeteredTaskRepository;
+import org.jmgrgo.taskapp.adapter.metrics.MeteredUserRepository;
+import org.jmgrgo.taskapp.adapter.metrics.PortMetrics;
+import org.jmgrgo.taskapp.adapter.out.persistence.BloomFilteredUserRepository;
+import org.jmgrgo.taskapp.adapter.out.persistence.CachingUserRepository;
+import org.jmgrgo.taskapp.adapter.out.persistence.IndexedTaskRepository;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcTaskRepository;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcUserEventOutbox;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcUserRepository;
+import org.jmgrgo.taskapp.adapter.out.persistence.WriteBehindLoginActivityRecorder;
+import org.jmgrgo.taskapp.adapter.out.scheduling.OverdueTaskScheduler;
+import org.jmgrgo.taskapp.adapter.out.scheduling.OverdueTrackingTaskRepository;
+import org.jmgrgo.taskapp.application.port.out.LoginActivityRecorder;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Wires the persistence adapters behind the application's outbound ports.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({UserCacheProperties.class, UserEmailFilterProperties.class, LoginActivityProperties.class,
+        TaskIndexProperties.class})
+public class PersistenceConfiguration {
+
+    @Bean
+    public JdbcUserEventOutbox jdbcUserEventOutbox(NamedParameterJdbcOperations jdbc) {
+        return new JdbcUserEventOutbox(jdbc);
+    }
+
+    @Bean
+    public JdbcUserRepository jdbcUserRepository(NamedParameterJdbcOperations jdbc, TransactionOperations transactions,
+                                                 JdbcUserEventOutbox outbox) {
+        return new JdbcUserRepository(jdbc, transactions, outbox);
+    }
+
+    @Bean
+    @Primary
+    public UserRepository userRepository(JdbcUserRepository jdbcRepository, UserCacheProperties cacheProperties,
+                                         UserEmailFilterProperties filterProperties, PortMetricsProperties metricsProperties,
+                                         PortMetrics portMetrics, MeterRegistry meterRegistry) {
+        UserRepository repository = jdbcRepository;
+
+        // Measure database time separately from the time callers see
+        if (metricsProperties.enabled()) {
+            repository = new MeteredUserRepository(repository, portMetrics, "JdbcUserRepository");
+        }
+
+        // Cache lookups in front of the database
+        if (cacheProperties.enabled()) {
+            CachingUserRepository cachingRepository = new CachingUserRepository(
+                    repository, cacheProperties.maximumSize(), cacheProperties.timeToLive());
+            cachingRepository.bindTo(meterRegistry);
+            repository = cachingRepository;
+        }
+
+        // Answer definite negatives of email availability checks in memory
+        if (filterProperties.enabled()) {
+            BloomFilteredUserRepository filteredRepository = new BloomFilteredUserRepository(
+                    repository, jdbcRepository, filterProperties.expectedInsertions(), filterProperties.falsePositiveRate(),
+                    runnable -> Thread.ofVirtual().name("user-email-filter-rebuild").start(runnable));
+            filteredRepository.bindTo(meterRegistry);
+            repository = filteredRepository;
+        }
+
+        if (metricsProperties.enabled()) {
+            repository = new MeteredUserRepository(repository, portMetrics, "UserRepository");
+        }
+
+        return repository;
+    }
+
+    @Bean
+    public JdbcTaskRepository jdbcTaskRepository(NamedParameterJdbcOperations jdbc) {
+        return new JdbcTaskRepository(jdbc);
+    }
+
+    @Bean
+    @Primary
+    public TaskRepository taskRepository(JdbcTaskRepository jdbcRepository, TaskIndexProperties indexProperties,
+                                         OverdueNotificationProperties overdueProperties, OverdueTaskScheduler overdueScheduler,
+                                         PortMetricsProperties metricsProperties, PortMetrics portMetrics,
+                                         MeterRegistry meterRegistry) {
+        TaskRepository repository = jdbcRepository;
+
+        // Measure database time separately from the time callers see
+        if (metricsProperties.enabled()) {
+            repository = new MeteredTaskRepository(repository, portMetrics, "JdbcTaskRepository");
+        }
+
+        // Answer tag and completion filters from per-user bitmap indexes
+        if (indexProperties.enabled()) {
+            IndexedTaskRepository indexedRepository = new IndexedTaskRepository(
+                    repository, indexProperties.maximumSize().toBytes(), indexProperties.timeToLive());
+            indexedRepository.bindTo(meterRegistry);
+            repository = indexedRepository;
+        }
+
+        // Keep the overdue schedule in step with every write
+        if (overdueProperties.enabled()) {
+            repository = new OverdueTrackingTaskRepository(repository, overdueScheduler);
+        }
+
+        if (metricsProperties.enabled()) {
+            repository = new MeteredTaskRepository(repository, portMetrics, "TaskRepository");
+        }
+
+        return repository;
+    }
+
+    @Bean
+    public LoginActivityRecorder loginActivityRecorder(JdbcUserRepository jdbcRepository, LoginActivityProperties properties,
+                                                       MeterRegistry meterRegistry) {
+
+        // Without write-behind, every login is written immediately
+        if (!properties.writeBehind()) {
+            return jdbcRepository::recordLogin;
+        }
+
+        WriteBehindLoginActivityRecorder recorder = new WriteBehindLoginActivityRecorder(
+                jdbcRepository, properties.flushInterval(), properties.maxPending());
+        recorder.bindTo(meterRegistry);
+        return recorder;
+    }
+}
@@ -0,0 +1,13 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the port latency instrumentation.
+ * @param enabled whether use cases and outbound ports are wrapped in metered decorators
+ */
+@ConfigurationProperties("taskapp.metrics.ports")
+public record PortMetricsProperties(
+        @DefaultValue("true") boolean enabled
+) {}
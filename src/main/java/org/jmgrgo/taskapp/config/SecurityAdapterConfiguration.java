@@ -0,0 +1,77 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.out.security.BCryptCostCalibrator;
+import org.jmgrgo.taskapp.adapter.out.security.BCryptPasswordHasher;
+import org.jmgrgo.taskapp.adapter.out.security.HmacTokenService;
+import org.jmgrgo.taskapp.adapter.out.security.PasswordHashingExecutor;
+import org.jmgrgo.taskapp.adapter.out.security.StripedLoginFailureTracker;
+import org.jmgrgo.taskapp.adapter.out.time.SystemClock;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.LoginFailureTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Wires the password hashing and clock adapters behind the application's outbound ports.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({PasswordHashingProperties.class, TokenProperties.class, LoginFailureProperties.class})
+public class SecurityAdapterConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityAdapterConfiguration.class);
+
+    @Bean
+    public PasswordHashingExecutor passwordHashingExecutor(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new PasswordHashingExecutor(properties.effectiveThreads(), properties.queueCapacity(), meterRegistry);
+    }
+
+    @Bean
+    public BCryptPasswordHasher passwordHasher(PasswordHashingProperties properties, PasswordHashingExecutor executor) {
+
+        // Use the configured cost, or calibrate it against this machine
+        int strength = properties.strength();
+        if (strength <= 0) {
+            strength = BCryptCostCalibrator.calibrate(
+                    properties.targetLatency(), properties.minimumStrength(), properties.maximumStrength());
+            log.info("Calibrated BCrypt strength to {} for a {} target latency", strength, properties.targetLatency());
+        }
+
+        return new BCryptPasswordHasher(strength, properties.minimumStrength(), properties.maximumStrength(), executor);
+    }
+
+    @Bean
+    public HmacTokenService tokenService(TokenProperties properties, Clock clock) {
+
+        // Use the configured key, or a random one valid for this instance only
+        byte[] secret;
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            log.warn("No token secret configured, issued tokens will only be valid on this instance until it restarts");
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = Base64.getDecoder().decode(properties.secret());
+        }
+
+        return new HmacTokenService(secret, properties.timeToLive(), clock);
+    }
+
+    @Bean
+    public LoginFailureTracker loginFailureTracker(LoginFailureProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        StripedLoginFailureTracker tracker = new StripedLoginFailureTracker(
+                properties.stripes(), properties.maxEntriesPerStripe(), clock);
+        tracker.bindTo(meterRegistry);
+        return tracker;
+    }
+
+    @Bean
+    public Clock clock() {
+        return new SystemClock();
+    }
+}
@@ -0,0 +1,30 @@
+package org.jmgrgo.taskapp.config;
+
+import org.jmgrgo.taskapp.adapter.metrics.VirtualThreadPinningMonitor;
+import org.jmgrgo.taskapp.adapter.out.persistence.UserEventRelay;
+import org.jmgrgo.taskapp.adapter.out.scheduling.OverdueTaskScheduler;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires what a fast-starting instance needs: the beans kept eager under lazy initialization. The
+ * training run recording the JVM AOT cache drives the application from outside, see the startup
+ * build.
+ * <p>
+ * With {@code spring.main.lazy-initialization} on, beans are created on first use, so startup only
+ * pays for the web server and the request path is built by the first requests. Beans that do
+ * their work in the background, and that nothing else would ever ask for, stay eager.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfiguration {
+
+    /**
+     * Static so it is registered before lazy initialization is applied to the bean definitions.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter backgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                OverdueTaskScheduler.class, UserEventRelay.class, VirtualThreadPinningMonitor.class);
+    }
+}
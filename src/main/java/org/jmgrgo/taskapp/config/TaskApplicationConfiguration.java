@@ -0,0 +1,48 @@
+package org.jmgrgo.taskapp.config;
+
+import org.jmgrgo.taskapp.application.port.in.CreateTaskUseCase;
+import org.jmgrgo.taskapp.application.port.in.DeleteTaskUseCase;
+import org.jmgrgo.taskapp.application.port.in.ExportTasksUseCase;
+import org.jmgrgo.taskapp.application.port.in.ListTasksUseCase;
+import org.jmgrgo.taskapp.application.port.in.UpdateTaskUseCase;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskRepository;
+import org.jmgrgo.taskapp.application.service.CreateTaskService;
+import org.jmgrgo.taskapp.application.service.DeleteTaskService;
+import org.jmgrgo.taskapp.application.service.ExportTasksService;
+import org.jmgrgo.taskapp.application.service.ListTasksService;
+import org.jmgrgo.taskapp.application.service.UpdateTaskService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the task use cases to their outbound ports.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TaskApplicationConfiguration {
+
+    @Bean
+    public CreateTaskUseCase createTaskUseCase(TaskRepository taskRepository, Clock clock) {
+        return new CreateTaskService(taskRepository, clock);
+    }
+
+    @Bean
+    public ListTasksUseCase listTasksUseCase(TaskRepository taskRepository, Clock clock) {
+        return new ListTasksService(taskRepository, clock);
+    }
+
+    @Bean
+    public ExportTasksUseCase exportTasksUseCase(TaskRepository taskRepository, Clock clock) {
+        return new ExportTasksService(taskRepository, clock);
+    }
+
+    @Bean
+    public UpdateTaskUseCase updateTaskUseCase(TaskRepository taskRepository, Clock clock) {
+        return new UpdateTaskService(taskRepository, clock);
+    }
+
+    @Bean
+    public DeleteTaskUseCase deleteTaskUseCase(TaskRepository taskRepository) {
+        return new DeleteTaskService(taskRepository);
+    }
+}
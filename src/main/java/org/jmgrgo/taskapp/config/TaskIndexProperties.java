@@ -0,0 +1,20 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings of the per-user bitmap indexes answering filtered task listings.
+ * @param enabled whether tag and completion filters are answered from the indexes
+ * @param maximumSize the estimated heap size of all indexes together, beyond which cold users are evicted
+ * @param timeToLive the time after which a user's index is rebuilt, so writes made by other instances show up
+ */
+@ConfigurationProperties("taskapp.task-index")
+public record TaskIndexProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maximumSize,
+        @DefaultValue("30s") Duration timeToLive
+) {}
@@ -0,0 +1,49 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.out.notification.LoggingTaskOverdueNotifier;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcOverdueWatermark;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcTaskRepository;
+import org.jmgrgo.taskapp.adapter.out.scheduling.OverdueTaskScheduler;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskOverdueNotifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * Wires the overdue task schedule and the notifier it reports to.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(OverdueNotificationProperties.class)
+public class TaskSchedulingConfiguration {
+
+    @Bean
+    public TaskOverdueNotifier taskOverdueNotifier(MeterRegistry meterRegistry) {
+        LoggingTaskOverdueNotifier notifier = new LoggingTaskOverdueNotifier();
+        notifier.bindTo(meterRegistry);
+        return notifier;
+    }
+
+    @Bean
+    public JdbcOverdueWatermark jdbcOverdueWatermark(NamedParameterJdbcOperations jdbc) {
+        return new JdbcOverdueWatermark(jdbc);
+    }
+
+    @Bean
+    public OverdueTaskScheduler overdueTaskScheduler(Clock clock, TaskOverdueNotifier notifier,
+                                                     JdbcTaskRepository jdbcTaskRepository, JdbcOverdueWatermark watermark,
+                                                     OverdueNotificationProperties properties, MeterRegistry meterRegistry) {
+        OverdueTaskScheduler scheduler = new OverdueTaskScheduler(
+                clock, notifier, jdbcTaskRepository, watermark, properties.tick(), properties.lease());
+        scheduler.bindTo(meterRegistry);
+
+        // Rebuild the schedule before the task repository, and so the web layer, can use it
+        if (properties.enabled()) {
+            scheduler.recover();
+            scheduler.start();
+        }
+        return scheduler;
+    }
+}
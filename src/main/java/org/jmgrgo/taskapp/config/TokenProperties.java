@@ -0,0 +1,18 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the signed access tokens.
+ * @param secret the base64 encoded HMAC key of at least 32 bytes; a random key is generated when blank,
+ *               which invalidates tokens on restart and across instances
+ * @param timeToLive how long issued tokens stay valid
+ */
+@ConfigurationProperties("taskapp.security.token")
+public record TokenProperties(
+        String secret,
+        @DefaultValue("1h") Duration timeToLive
+) {}
@@ -0,0 +1,67 @@
+package org.jmgrgo.taskapp.config;
+
+import org.jmgrgo.taskapp.adapter.metrics.*;
+import org.jmgrgo.taskapp.application.port.in.BulkRegisterUsersUseCase;
+import org.jmgrgo.taskapp.application.port.in.LoginUserUseCase;
+import org.jmgrgo.taskapp.application.port.in.RegisterUserUseCase;
+import org.jmgrgo.taskapp.application.port.out.*;
+import org.jmgrgo.taskapp.application.service.BulkRegisterUsersService;
+import org.jmgrgo.taskapp.application.service.LoginUserService;
+import org.jmgrgo.taskapp.application.service.RegisterUserService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the user use cases to their outbound ports, wrapping both in metered decorators when
+ * port metrics are enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BulkRegistrationProperties.class)
+public class UserApplicationConfiguration {
+
+    @Bean
+    public RegisterUserUseCase registerUserUseCase(UserRepository userRepository, PasswordHasher passwordHasher, Clock clock,
+                                                   PortMetricsProperties metricsProperties, PortMetrics portMetrics) {
+        if (!metricsProperties.enabled()) {
+            return new RegisterUserService(userRepository, passwordHasher, clock);
+        }
+
+        RegisterUserUseCase service = new RegisterUserService(userRepository,
+                new MeteredPasswordHasher(passwordHasher, portMetrics), new MeteredClock(clock, portMetrics));
+        return new MeteredRegisterUserUseCase(service, portMetrics);
+    }
+
+    @Bean
+    public LoginUserUseCase loginUserUseCase(UserRepository userRepository, PasswordMatchVerifier passwordVerifier,
+                                             PasswordHasher passwordHasher, TokenGenerator tokenGenerator,
+                                             LoginActivityRecorder loginActivityRecorder, LoginFailureTracker loginFailureTracker,
+                                             Clock clock, PortMetricsProperties metricsProperties, PortMetrics portMetrics) {
+        if (!metricsProperties.enabled()) {
+            return new LoginUserService(userRepository, passwordVerifier, passwordHasher, tokenGenerator,
+                    loginActivityRecorder, loginFailureTracker, clock);
+        }
+
+        LoginUserUseCase service = new LoginUserService(userRepository,
+                new MeteredPasswordMatchVerifier(passwordVerifier, portMetrics),
+                new MeteredPasswordHasher(passwordHasher, portMetrics),
+                new MeteredTokenGenerator(tokenGenerator, portMetrics),
+                loginActivityRecorder, loginFailureTracker, new MeteredClock(clock, portMetrics));
+        return new MeteredLoginUserUseCase(service, portMetrics);
+    }
+
+    @Bean
+    public BulkRegisterUsersUseCase bulkRegisterUsersUseCase(UserRepository userRepository, PasswordHasher passwordHasher,
+                                                             Clock clock, BulkRegistrationProperties properties,
+                                                             PortMetricsProperties metricsProperties, PortMetrics portMetrics) {
+        if (!metricsProperties.enabled()) {
+            return new BulkRegisterUsersService(userRepository, passwordHasher, clock,
+                    properties.chunkSize(), properties.maxRecords(), properties.maxErrors());
+        }
+
+        BulkRegisterUsersUseCase service = new BulkRegisterUsersService(userRepository,
+                new MeteredPasswordHasher(passwordHasher, portMetrics), new MeteredClock(clock, portMetrics),
+                properties.chunkSize(), properties.maxRecords(), properties.maxErrors());
+        return new MeteredBulkRegisterUsersUseCase(service, portMetrics);
+    }
+}
@@ -0,0 +1,19 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the read-through user cache.
+ * @param enabled whether user lookups are cached
+ * @param maximumSize the maximum number of cached users
+ * @param timeToLive how long a user stays cached after it was loaded or saved
+ */
+@ConfigurationProperties("taskapp.user-cache")
+public record UserCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration timeToLive
+) {}
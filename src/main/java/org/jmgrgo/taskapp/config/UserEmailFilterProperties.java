@@ -0,0 +1,17 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the Bloom filter answering email availability checks.
+ * @param enabled whether availability checks go through the filter
+ * @param expectedInsertions the minimum number of emails the filter is sized for
+ * @param falsePositiveRate the target rate of checks that still reach the database for unregistered emails
+ */
+@ConfigurationProperties("taskapp.user-email-filter")
+public record UserEmailFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate
+) {}
@@ -0,0 +1,41 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.out.notification.LoggingUserEventHandler;
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcUserEventOutbox;
+import org.jmgrgo.taskapp.adapter.out.persistence.UserEventRelay;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.UserEventHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * Wires the relay delivering stored user events and the handlers it delivers to.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(UserEventProperties.class)
+public class UserEventConfiguration {
+
+    @Bean
+    public LoggingUserEventHandler loggingUserEventHandler(MeterRegistry meterRegistry) {
+        LoggingUserEventHandler handler = new LoggingUserEventHandler();
+        handler.bindTo(meterRegistry);
+        return handler;
+    }
+
+    @Bean
+    public UserEventRelay userEventRelay(JdbcUserEventOutbox outbox, TransactionOperations transactions,
+                                         List<UserEventHandler> handlers, Clock clock,
+                                         UserEventProperties properties, MeterRegistry meterRegistry) {
+        UserEventRelay relay = new UserEventRelay(outbox, transactions, handlers, clock, properties.pollInterval(),
+                properties.batchSize(), properties.maxAttempts(), meterRegistry);
+        if (properties.enabled()) {
+            relay.start();
+        }
+        return relay;
+    }
+}
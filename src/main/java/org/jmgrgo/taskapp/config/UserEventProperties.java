@@ -0,0 +1,21 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the user event relay.
+ * @param enabled whether stored user events are delivered to the handlers; they are stored either way
+ * @param pollInterval the time between polls of an empty outbox
+ * @param batchSize the maximum number of events claimed from the outbox at once
+ * @param maxAttempts the failed deliveries after which an event is moved to the dead letter table
+ */
+@ConfigurationProperties("taskapp.user-events")
+public record UserEventProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("10") int maxAttempts
+) {}
@@ -0,0 +1,31 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.metrics.VirtualThreadPinningMonitor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the virtual thread pinning monitor.
+ * <p>
+ * Whether requests run on virtual threads at all is {@code spring.threads.virtual.enabled}.
+ * With it on there is no request thread pool left to bound concurrency, so the connection pool
+ * does: it is sized for the database with {@code spring.datasource.hikari.maximum-pool-size}, and
+ * callers queue for a connection and fail fast once {@code spring.datasource.hikari.connection-timeout}
+ * passes.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(properties.pinningThreshold());
+        if (properties.pinningMonitor()) {
+            monitor.bindTo(meterRegistry);
+        }
+        return monitor;
+    }
+}
@@ -0,0 +1,17 @@
+package org.jmgrgo.taskapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the virtual thread pinning monitor.
+ * @param pinningMonitor whether virtual threads pinned to their carrier are recorded and logged
+ * @param pinningThreshold the shortest pinning worth reporting
+ */
+@ConfigurationProperties("taskapp.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("true") boolean pinningMonitor,
+        @DefaultValue("20ms") Duration pinningThreshold
+) {}
@@ -0,0 +1,54 @@
+package org.jmgrgo.taskapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jmgrgo.taskapp.adapter.in.web.AuthRateLimiter;
+import org.jmgrgo.taskapp.adapter.in.web.TokenAuthenticationFilter;
+import org.jmgrgo.taskapp.adapter.in.web.TokenBucketRateLimiter;
+import org.jmgrgo.taskapp.adapter.out.security.HmacTokenService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * HTTP security rules: the API is stateless, only the authentication endpoints and the health check
+ * are public, administration and actuator endpoints need the admin role, since metrics show latencies,
+ * errors and lock and rate limit counters, and every other request must carry a valid bearer token.
+ * Attempts on the authentication endpoints are rate limited.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(AuthRateLimitProperties.class)
+public class WebSecurityConfiguration {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, HmacTokenService tokenService) throws Exception {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests(requests -> requests
+                        .requestMatchers("/api/auth/**", "/actuator/health").permitAll()
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
+                        .anyRequest().authenticated())
+                .build();
+    }
+
+    @Bean
+    public AuthRateLimiter authRateLimiter(AuthRateLimitProperties properties, MeterRegistry meterRegistry) {
+        AuthRateLimiter rateLimiter = properties.enabled()
+                ? new AuthRateLimiter(
+                        new TokenBucketRateLimiter(properties.addressCapacity(), properties.addressRefillInterval(),
+                                properties.maximumKeys(), System::nanoTime),
+                        new TokenBucketRateLimiter(properties.emailCapacity(), properties.emailRefillInterval(),
+                                properties.maximumKeys(), System::nanoTime))
+                : new AuthRateLimiter(null, null);
+        rateLimiter.bindTo(meterRegistry);
+        return rateLimiter;
+    }
+}
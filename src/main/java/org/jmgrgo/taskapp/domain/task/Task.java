@@ -0,0 +1,244 @@
+package org.jmgrgo.taskapp.domain.task;
+
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents a Task owned by a user, due on a given date and optionally associated with a tag.
+ */
+public class Task {
+
+    private final TaskId id;
+    private final UserId ownerId;
+
+    private TaskTitle title;
+    private LocalDate dueDate;
+    private TagId tagId;
+
+    private boolean completed;
+    private Instant completedAt;
+
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    private Task(Builder builder) {
+        this.id = Objects.requireNonNull(builder.id);
+        this.ownerId = Objects.requireNonNull(builder.ownerId);
+        this.title = Objects.requireNonNull(builder.title);
+        this.dueDate = Objects.requireNonNull(builder.dueDate);
+        this.tagId = builder.tagId;
+        this.completed = builder.completed;
+        this.completedAt = builder.completedAt;
+        this.createdAt = builder.createdAt;
+        this.updatedAt = builder.updatedAt;
+    }
+
+    public TaskId getId() {
+        return id;
+    }
+
+    public UserId getOwnerId() {
+        return ownerId;
+    }
+
+    public TaskTitle getTitle() {
+        return title;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public TagId getTagId() {
+        return tagId;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Creates a builder pre-populated with the current state of this task.
+     * @return a builder holding a copy of every field
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .id(id)
+                .ownerId(ownerId)
+                .title(title)
+                .dueDate(dueDate)
+                .tagId(tagId)
+                .completed(completed)
+                .completedAt(completedAt)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt);
+    }
+
+    public static Task create(UserId ownerId, TaskTitle title, LocalDate dueDate, TagId tagId, Instant now) {
+
+        // Validate inputs
+        Objects.requireNonNull(ownerId, "Owner is required");
+        Objects.requireNonNull(title, "Title is required");
+        Objects.requireNonNull(dueDate, "Due date is required");
+
+        return new Builder()
+                .id(TaskId.newId())
+                .ownerId(ownerId)
+                .title(title)
+                .dueDate(dueDate)
+                .tagId(tagId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public boolean isOwnedBy(UserId userId) {
+        return ownerId.equals(userId);
+    }
+
+    public void rename(TaskTitle newTitle, Instant now) {
+        if (title.equals(newTitle)) return;
+
+        this.title = Objects.requireNonNull(newTitle);
+        touch(now);
+    }
+
+    public void reschedule(LocalDate newDueDate, Instant now) {
+        if (dueDate.equals(newDueDate)) return;
+
+        this.dueDate = Objects.requireNonNull(newDueDate);
+        touch(now);
+    }
+
+    /**
+     * Associates the task with a tag, or with none when {@code newTagId} is null.
+     */
+    public void retag(TagId newTagId, Instant now) {
+        if (Objects.equals(tagId, newTagId)) return;
+
+        this.tagId = newTagId;
+        touch(now);
+    }
+
+    public void complete(Instant now) {
+        if (completed) return;
+
+        this.completed = true;
+        this.completedAt = now;
+        touch(now);
+    }
+
+    public void reopen(Instant now) {
+        if (!completed) return;
+
+        this.completed = false;
+        this.completedAt = null;
+        touch(now);
+    }
+
+    /**
+     * @return true if the task is still open after its due date
+     */
+    public boolean isOverdue(LocalDate today) {
+        return !completed && dueDate.isBefore(today);
+    }
+
+    private void touch(Instant now) {
+        this.updatedAt = now;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Task task = (Task) o;
+        return Objects.equals(id, task.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    public static final class Builder {
+
+        private TaskId id;
+        private UserId ownerId;
+
+        private TaskTitle title;
+        private LocalDate dueDate;
+        private TagId tagId;
+
+        private boolean completed;
+        private Instant completedAt;
+
+        private Instant createdAt;
+        private Instant updatedAt;
+
+        public Builder id(TaskId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder ownerId(UserId ownerId) {
+            this.ownerId = ownerId;
+            return this;
+        }
+
+        public Builder title(TaskTitle title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder dueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+            return this;
+        }
+
+        public Builder tagId(TagId tagId) {
+            this.tagId = tagId;
+            return this;
+        }
+
+        public Builder completed(boolean completed) {
+            this.completed = completed;
+            return this;
+        }
+
+        public Builder completedAt(Instant completedAt) {
+            this.completedAt = completedAt;
+            return this;
+        }
+
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder updatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public Task build() {
+            return new Task(this);
+        }
+    }
+}
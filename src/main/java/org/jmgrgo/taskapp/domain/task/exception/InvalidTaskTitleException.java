@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.domain.task.exception;
+
+public class InvalidTaskTitleException extends RuntimeException {
+    public InvalidTaskTitleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package org.jmgrgo.taskapp.domain.task.value;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A Value Object referencing the tag a task is associated with.
+ * @param value The UUID value.
+ */
+public record TagId(UUID value) {
+
+    public TagId {
+
+        // Enforce NonNull input
+        Objects.requireNonNull(value, "TagId must not be null");
+    }
+
+    /**
+     * Creates a TagId from a raw UUID string.
+     * @throws IllegalArgumentException if the string is not a valid UUID format.
+     * @throws NullPointerException if the value is null.
+     */
+    public static TagId fromString(String value) {
+        return new TagId(UUID.fromString(value));
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package org.jmgrgo.taskapp.domain.task.value;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A Value Object representing a unique identifier for a Task.
+ * @param value The UUID value.
+ */
+public record TaskId(UUID value) {
+
+    public TaskId {
+
+        // Enforce NonNull input
+        Objects.requireNonNull(value, "TaskId must not be null");
+    }
+
+    /**
+     * Generates a new time-ordered TaskId (UUID version 7), so a user's newest tasks sit together in the index.
+     * @return the generated TaskId
+     */
+    public static TaskId newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0fff);
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new TaskId(new UUID(mostSigBits, leastSigBits));
+    }
+
+    /**
+     * Creates a TaskId from a raw UUID string.
+     * @throws IllegalArgumentException if the string is not a valid UUID format.
+     * @throws NullPointerException if the value is null.
+     */
+    public static TaskId fromString(String value) {
+        return new TaskId(UUID.fromString(value));
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package org.jmgrgo.taskapp.domain.task.value;
+
+import org.jmgrgo.taskapp.domain.task.exception.InvalidTaskTitleException;
+
+import java.util.Objects;
+
+/**
+ * A Value Object representing the trimmed, non-blank title of a task.
+ * @param value The title
+ */
+public record TaskTitle(String value) {
+
+    public static final int MAX_LENGTH = 200;
+
+    public TaskTitle {
+
+        // Enforce NonNull input
+        Objects.requireNonNull(value, "Title cannot be null");
+
+        value = value.strip();
+        if (value.isEmpty()) {
+            throw new InvalidTaskTitleException("Title cannot be blank");
+        }
+        if (value.length() > MAX_LENGTH) {
+            throw new InvalidTaskTitleException("Title cannot exceed " + MAX_LENGTH + " characters");
+        }
+    }
+
+    public static TaskTitle fromString(String rawTitle) {
+        return new TaskTitle(rawTitle);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -1,20 +1,37 @@
 package org.jmgrgo.taskapp.domain.user;
 
+import org.jmgrgo.taskapp.domain.user.event.*;
 import org.jmgrgo.taskapp.domain.user.exception.UserIsDeletedException;
 import org.jmgrgo.taskapp.domain.user.exception.UserIsLockedException;
 import org.jmgrgo.taskapp.domain.user.value.*;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.EnumSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * Represents a User Account in the system.
+ * <p>
+ * Roles are held as a {@link UserRole} bitmask, so role checks are a single bitwise AND.
+ * <p>
+ * The aggregate records which {@link Field}s its mutators changed, so a store can write only those.
+ * Users from {@link #create} have every field changed; users from the {@link Builder}, as loaded
+ * from a store, start with none.
+ * <p>
+ * The version is the one of the stored row this user was loaded from. Stores only write a user
+ * whose version is still current, so concurrent changes to one account are detected rather than
+ * overwritten.
+ * <p>
+ * Mutators also record {@link UserEvent}s. They stay pending until the user is stored, and stores
+ * write them together with the change that raised them.
  */
 public class User {
 
+    public static final int MAX_FAILED_LOGIN_ATTEMPTS = 3;
+
     private final UserId id;
 
     private EmailAddress email;
@@ -25,7 +42,7 @@ public class User {
     private Instant passwordUpdatedAt;
 
     private UserStatus status;
-    private final Set<UserRole> roles;
+    private int roleMask;
 
     private int failedLoginAttempts;
     private Instant accountLockedUntil;
@@ -37,6 +54,10 @@ public class User {
 
     private Instant deletedAt;
 
+    private long version;
+    private int changes;
+    private List<UserEvent> events;
+
     private User(Builder builder) {
         this.id = Objects.requireNonNull(builder.id);
         this.email = Objects.requireNonNull(builder.email);
@@ -45,9 +66,7 @@ public class User {
         this.passwordHash = builder.passwordHash;
         this.passwordUpdatedAt = builder.passwordUpdatedAt;
         this.status = builder.status;
-        this.roles = (builder.roles == null || builder.roles.isEmpty())
-                ? EnumSet.noneOf(UserRole.class)
-                : EnumSet.copyOf(builder.roles);
+        this.roleMask = builder.roleMask;
         this.failedLoginAttempts = builder.failedLoginAttempts;
         this.accountLockedUntil = builder.accountLockedUntil;
         this.createdAt = builder.createdAt;
@@ -55,6 +74,7 @@ public class User {
         this.lastLoginAt = builder.lastLoginAt;
         this.lastActiveAt = builder.lastActiveAt;
         this.deletedAt = builder.deletedAt;
+        this.version = builder.version;
     }
 
     public UserId getId() {
@@ -85,8 +105,18 @@ public class User {
         return status;
     }
 
+    /**
+     * @return the unmodifiable set of this user's roles
+     */
     public Set<UserRole> getRoles() {
-        return Set.copyOf(roles);
+        return UserRole.fromMask(roleMask);
+    }
+
+    /**
+     * @return this user's roles as a {@link UserRole} bitmask
+     */
+    public int getRoleMask() {
+        return roleMask;
     }
 
     public int getFailedLoginAttempts() {
@@ -117,6 +147,65 @@ public class User {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return whether {@code field} changed since this user was built or last stored
+     */
+    public boolean isChanged(Field field) {
+        return (changes & field.bit) != 0;
+    }
+
+    /**
+     * @return whether any field changed since this user was built or last stored
+     */
+    public boolean hasChanges() {
+        return changes != 0;
+    }
+
+    /**
+     * @return the events recorded since this user was built or last stored, oldest first
+     */
+    public List<UserEvent> getPendingEvents() {
+        return events == null ? List.of() : List.copyOf(events);
+    }
+
+    /**
+     * Forgets the recorded changes and events, once a store has written them.
+     * @param version the version of the row as written
+     */
+    public void markStored(long version) {
+        this.version = version;
+        this.changes = 0;
+        this.events = null;
+    }
+
+    /**
+     * Creates a builder pre-populated with the current state of this user.
+     * @return a builder holding a copy of every field
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .id(id)
+                .email(email)
+                .emailVerified(emailVerified)
+                .emailUpdatedAt(emailUpdatedAt)
+                .passwordHash(passwordHash)
+                .passwordUpdatedAt(passwordUpdatedAt)
+                .status(status)
+                .roleMask(roleMask)
+                .failedLoginAttempts(failedLoginAttempts)
+                .accountLockedUntil(accountLockedUntil)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .lastLoginAt(lastLoginAt)
+                .lastActiveAt(lastActiveAt)
+                .deletedAt(deletedAt)
+                .version(version);
+    }
+
     public static User create(EmailAddress email, PasswordHash passwordHash, Set<UserRole> roles, Instant now) {
 
         // Validate inputs
@@ -128,7 +217,7 @@ public class User {
                 ? Set.of(UserRole.USER)
                 : roles;
 
-        return new Builder()
+        User user = new Builder()
                 .id(UserId.newId())
                 .email(email)
                 .passwordHash(passwordHash)
@@ -139,6 +228,9 @@ public class User {
                 .emailUpdatedAt(now)
                 .passwordUpdatedAt(now)
                 .build();
+        user.changes = Field.ALL;
+        user.raise(new UserRegistered(user.id, email, now));
+        return user;
     }
 
     public void changeEmail(EmailAddress newEmail, Instant now) {
@@ -148,6 +240,7 @@ public class User {
         this.email = newEmail;
         this.emailVerified = false;
         this.emailUpdatedAt = now;
+        changed(Field.EMAIL, Field.EMAIL_VERIFIED, Field.EMAIL_UPDATED_AT);
         touch(now);
     }
 
@@ -157,6 +250,7 @@ public class User {
 
         this.emailVerified = true;
         this.emailUpdatedAt = now;
+        changed(Field.EMAIL_VERIFIED, Field.EMAIL_UPDATED_AT);
         touch(now);
     }
 
@@ -164,31 +258,48 @@ public class User {
         ensureNotDeleted();
         this.passwordHash = newPasswordHash;
         this.passwordUpdatedAt = now;
+        changed(Field.PASSWORD_HASH, Field.PASSWORD_UPDATED_AT);
         resetFailedLogins();
         touch(now);
     }
 
+    /**
+     * Replaces the stored hash of the current password, e.g. after re-hashing it with a different cost.
+     * Unlike {@link #changePassword}, this is not a password change and keeps the login state.
+     */
+    public void upgradePasswordHash(PasswordHash upgradedHash, Instant now) {
+        ensureNotDeleted();
+        this.passwordHash = Objects.requireNonNull(upgradedHash);
+        changed(Field.PASSWORD_HASH);
+        touch(now);
+    }
+
     public void addRole(UserRole role, Instant now) {
         ensureNotDeleted();
-        if (roles.add(role)) {
+        if (!role.isIn(roleMask)) {
+            roleMask |= role.bit();
+            changed(Field.ROLES);
             touch(now);
         }
     }
 
     public void removeRole(UserRole role, Instant now) {
         ensureNotDeleted();
-        if (roles.remove(role)) {
+        if (role.isIn(roleMask)) {
+            roleMask &= ~role.bit();
+            changed(Field.ROLES);
             touch(now);
         }
     }
 
     public boolean hasRole(UserRole role) {
-        return roles.contains(role);
+        return role.isIn(roleMask);
     }
 
     public void suspend(Instant now) {
         ensureNotDeleted();
         this.status = UserStatus.SUSPENDED;
+        changed(Field.STATUS);
         touch(now);
     }
 
@@ -197,6 +308,7 @@ public class User {
             throw new UserIsDeletedException("Cannot activate a deleted user");
         }
         this.status = UserStatus.ACTIVE;
+        changed(Field.STATUS);
         touch(now);
     }
 
@@ -204,11 +316,12 @@ public class User {
         ensureNotDeleted();
         ensureNotLocked(now);
 
-        this.failedLoginAttempts = 0;
-        this.accountLockedUntil = null;
+        resetFailedLogins();
         this.lastLoginAt = now;
         this.lastActiveAt = now;
+        changed(Field.LAST_LOGIN_AT, Field.LAST_ACTIVE_AT);
         touch(now);
+        raise(new LoginSucceeded(id, now));
     }
 
     public void recordFailedLogin(Instant now, Duration lockPolicy) {
@@ -217,12 +330,27 @@ public class User {
             this.failedLoginAttempts = 0;
         }
         this.failedLoginAttempts++;
-        if (failedLoginAttempts >= 3) {
+        changed(Field.FAILED_LOGIN_ATTEMPTS);
+        if (failedLoginAttempts >= MAX_FAILED_LOGIN_ATTEMPTS) {
             this.accountLockedUntil = now.plus(lockPolicy);
+            changed(Field.ACCOUNT_LOCKED_UNTIL);
+            raise(new AccountLocked(id, accountLockedUntil, now));
         }
         touch(now);
     }
 
+    /**
+     * Locks the account after failed logins were counted outside the aggregate.
+     */
+    public void lock(Instant now, Duration lockPolicy) {
+        if (isLocked(now)) return;
+        this.failedLoginAttempts = MAX_FAILED_LOGIN_ATTEMPTS;
+        this.accountLockedUntil = now.plus(lockPolicy);
+        changed(Field.FAILED_LOGIN_ATTEMPTS, Field.ACCOUNT_LOCKED_UNTIL);
+        touch(now);
+        raise(new AccountLocked(id, accountLockedUntil, now));
+    }
+
     public boolean isLocked(Instant now) {
         return accountLockedUntil != null && accountLockedUntil.isAfter(now);
     }
@@ -233,7 +361,9 @@ public class User {
         this.status = UserStatus.DELETED;
         this.deletedAt = now;
         this.emailVerified = false;
+        changed(Field.STATUS, Field.DELETED_AT, Field.EMAIL_VERIFIED);
         touch(now);
+        raise(new UserDeleted(id, now));
     }
 
     public boolean isDeleted() {
@@ -242,11 +372,36 @@ public class User {
 
     private void touch(Instant now) {
         this.updatedAt = now;
+        changed(Field.UPDATED_AT);
     }
 
     private void resetFailedLogins() {
-        this.failedLoginAttempts = 0;
-        this.accountLockedUntil = null;
+        if (failedLoginAttempts != 0) {
+            this.failedLoginAttempts = 0;
+            changed(Field.FAILED_LOGIN_ATTEMPTS);
+        }
+        if (accountLockedUntil != null) {
+            this.accountLockedUntil = null;
+            changed(Field.ACCOUNT_LOCKED_UNTIL);
+        }
+    }
+
+    private void raise(UserEvent event) {
+        if (events == null) {
+            events = new ArrayList<>(2);
+        }
+        events.add(event);
+    }
+
+    private void changed(Field field) {
+        changes |= field.bit;
+    }
+
+    private void changed(Field first, Field... more) {
+        changed(first);
+        for (Field field : more) {
+            changed(field);
+        }
     }
 
     private void ensureNotDeleted() {
@@ -273,6 +428,18 @@ public class User {
         return Objects.hashCode(id);
     }
 
+    /**
+     * The stored fields of a user, as tracked by {@link #isChanged(Field)}.
+     */
+    public enum Field {
+        EMAIL, EMAIL_VERIFIED, EMAIL_UPDATED_AT, PASSWORD_HASH, PASSWORD_UPDATED_AT, STATUS, ROLES,
+        FAILED_LOGIN_ATTEMPTS, ACCOUNT_LOCKED_UNTIL, UPDATED_AT, LAST_LOGIN_AT, LAST_ACTIVE_AT, DELETED_AT;
+
+        private static final int ALL = (1 << values().length) - 1;
+
+        private final int bit = 1 << ordinal();
+    }
+
     public static final class Builder {
 
         private UserId id;
@@ -284,7 +451,7 @@ public class User {
         private Instant passwordUpdatedAt;
 
         private UserStatus status;
-        private Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        private int roleMask;
 
         private int failedLoginAttempts;
         private Instant accountLockedUntil;
@@ -294,6 +461,7 @@ public class User {
         private Instant lastLoginAt;
         private Instant lastActiveAt;
         private Instant deletedAt;
+        private long version;
 
         public Builder id(UserId id) {
             this.id = id;
@@ -331,12 +499,23 @@ public class User {
         }
 
         public Builder roles(Set<UserRole> roles) {
-            this.roles = EnumSet.copyOf(roles);
+            this.roleMask = UserRole.toMask(roles);
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if {@code roleMask} has bits of no {@link UserRole}
+         */
+        public Builder roleMask(int roleMask) {
+            if ((roleMask & ~UserRole.ALL) != 0) {
+                throw new IllegalArgumentException("Unknown role bits: " + Integer.toBinaryString(roleMask));
+            }
+            this.roleMask = roleMask;
             return this;
         }
 
         public Builder addRole(UserRole role) {
-            this.roles.add(role);
+            this.roleMask |= role.bit();
             return this;
         }
 
@@ -375,6 +554,11 @@ public class User {
             return this;
         }
 
+        public Builder version(long version) {
+            this.version = version;
+            return this;
+        }
+
         public User build() {
             Objects.requireNonNull(id, "User ID is required");
             Objects.requireNonNull(email, "Email is required");
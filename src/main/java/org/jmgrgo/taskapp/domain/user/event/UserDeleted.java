@@ -0,0 +1,7 @@
+package org.jmgrgo.taskapp.domain.user.event;
+
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+
+public record UserDeleted(UserId userId, Instant occurredAt) implements UserEvent {}
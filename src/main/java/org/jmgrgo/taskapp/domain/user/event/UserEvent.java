@@ -0,0 +1,16 @@
+package org.jmgrgo.taskapp.domain.user.event;
+
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to a user account, recorded by the {@code User} aggregate and published
+ * once the change that raised it is stored.
+ */
+public sealed interface UserEvent permits UserRegistered, LoginSucceeded, AccountLocked, UserDeleted {
+
+    UserId userId();
+
+    Instant occurredAt();
+}
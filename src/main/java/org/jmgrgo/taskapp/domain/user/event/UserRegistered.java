@@ -0,0 +1,8 @@
+package org.jmgrgo.taskapp.domain.user.event;
+
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+
+import java.time.Instant;
+
+public record UserRegistered(UserId userId, EmailAddress email, Instant occurredAt) implements UserEvent {}
@@ -2,29 +2,36 @@ package org.jmgrgo.taskapp.domain.user.value;
 
 import org.jmgrgo.taskapp.domain.user.exception.InvalidEmailFormatException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * A Value Object representing a validated and normalized email address.
+ * <p>
+ * A valid email is {@code local@domain.tld} where the local part uses {@code [a-z0-9._%+-]}, the
+ * domain {@code [a-z0-9.-]} and the top level domain 2 to 63 letters, after trimming and lower-casing.
  * @param value The standardized email string
  */
 public record EmailAddress(String value) {
 
-    // Regex for basic email validation
-    private static final Pattern EMAIL_PATTERN =
-            Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,63}$", Pattern.CASE_INSENSITIVE);
+    // Scan results
+    private static final int INVALID = 0;
+    private static final int NORMALIZED = 1;
+    private static final int NEEDS_NORMALIZATION = 2;
+    private static final int NON_ASCII = 3;
+
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int MAX_TLD_LENGTH = 63;
 
     public EmailAddress {
 
         // Enforce NonNull input
         Objects.requireNonNull(value, "Email cannot be null");
 
-        // Normalize input
-        value = value.trim().toLowerCase();
-
-        // Use the static check to enforce the invariant
-        if (!isFormatValid(value)) {
+        // Normalize and validate input in one pass
+        value = normalize(value);
+        if (value == null) {
             throw new InvalidEmailFormatException("Invalid email format");
         }
     }
@@ -33,7 +40,7 @@ public record EmailAddress(String value) {
      * Creates a new EmailAddress
      * @param rawEmail raw email string
      * @return the created EmailAddress value object
-     * @throws IllegalArgumentException if the string is not a valid Email Address format.
+     * @throws InvalidEmailFormatException if the string is not a valid Email Address format.
      * @throws NullPointerException if the value is null.
      */
     public static EmailAddress fromString(String rawEmail) {
@@ -50,22 +57,107 @@ public record EmailAddress(String value) {
         // If the value is null
         if (value == null) return false;
 
-        // Check the normalized version
-        return isFormatValid(value.trim().toLowerCase());
+        // Check without building the normalized version
+        return switch (scan(value)) {
+            case NORMALIZED, NEEDS_NORMALIZATION -> true;
+            case NON_ASCII -> scan(value.trim().toLowerCase(Locale.ROOT)) == NORMALIZED;
+            default -> false;
+        };
+    }
 
+    /**
+     * Trims, lower-cases and validates an email.
+     * @param rawEmail the raw email string
+     * @return the normalized email, the same instance if it already was, or null if it is invalid
+     */
+    private static String normalize(String rawEmail) {
+        switch (scan(rawEmail)) {
+            case NORMALIZED:
+                return rawEmail;
+            case NEEDS_NORMALIZATION:
+                return lowerCaseAscii(rawEmail);
+            case NON_ASCII:
+                // Full case mapping can turn some non-ASCII letters into ASCII ones
+                String normalized = rawEmail.trim().toLowerCase(Locale.ROOT);
+                return scan(normalized) == NORMALIZED ? normalized : null;
+            default:
+                return null;
+        }
     }
 
     /**
-     * Checks if an email follows a valid format.
-     * @param normalizedEmail the normalized email string to validate
-     * @return true if the email format is valid, false otherwise
+     * Validates an email in a single pass, ignoring case and surrounding whitespace.
+     * @param email the email to check
+     * @return {@link #NORMALIZED} if valid as is, {@link #NEEDS_NORMALIZATION} if valid once trimmed and
+     * lower-cased, {@link #NON_ASCII} if it holds non-ASCII characters, {@link #INVALID} otherwise
      */
-    private static boolean isFormatValid(String normalizedEmail) {
-        return !normalizedEmail.isBlank() && EMAIL_PATTERN.matcher(normalizedEmail).matches();
+    private static int scan(String email) {
+        int start = 0;
+        int end = email.length();
+        while (start < end && email.charAt(start) <= ' ') start++;
+        while (end > start && email.charAt(end - 1) <= ' ') end--;
+
+        boolean needsNormalization = start > 0 || end < email.length();
+        int at = -1;
+        int lastDot = -1;
+        boolean lettersSinceLastDot = true;
+
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            if (c >= 0x80) return NON_ASCII;
+
+            if (c >= 'A' && c <= 'Z') {
+                needsNormalization = true;
+            } else if (c == '@') {
+                if (at >= 0) return INVALID;
+                at = i;
+                continue;
+            } else if (c == '.') {
+                if (at >= 0) {
+                    lastDot = i;
+                    lettersSinceLastDot = true;
+                }
+                continue;
+            } else if ((c >= '0' && c <= '9') || c == '-') {
+                lettersSinceLastDot = false;
+                continue;
+            } else if (c == '_' || c == '%' || c == '+') {
+                if (at >= 0) return INVALID;
+                continue;
+            } else if (c < 'a' || c > 'z') {
+                return INVALID;
+            }
+        }
+
+        // Non-empty local part, at least one domain character before the last dot, a letters-only TLD
+        int tldLength = end - lastDot - 1;
+        if (at <= start || lastDot <= at + 1 || !lettersSinceLastDot
+                || tldLength < MIN_TLD_LENGTH || tldLength > MAX_TLD_LENGTH) {
+            return INVALID;
+        }
+
+        return needsNormalization ? NEEDS_NORMALIZATION : NORMALIZED;
+    }
+
+    /**
+     * Trims and lower-cases an email known to be valid ASCII.
+     */
+    private static String lowerCaseAscii(String email) {
+        int start = 0;
+        int end = email.length();
+        while (email.charAt(start) <= ' ') start++;
+        while (email.charAt(end - 1) <= ' ') end--;
+
+        byte[] bytes = new byte[end - start];
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            bytes[i - start] = (byte) (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
     }
 
     @Override
     public String toString() {
         return value;
     }
-}
\ No newline at end of file
+}
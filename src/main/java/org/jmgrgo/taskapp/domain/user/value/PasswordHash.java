@@ -27,8 +27,36 @@ public record PasswordHash(String value) {
         return new PasswordHash(hash);
     }
 
+    /**
+     * Returns the algorithm identifier of a modular crypt hash, such as {@code 2a} or {@code 2b} for BCrypt.
+     * @return the algorithm identifier, or null if the hash is not in modular crypt format
+     */
+    public String algorithm() {
+        int end = value.indexOf('$', 1);
+        if (value.charAt(0) != '$' || end < 0) return null;
+
+        return value.substring(1, end);
+    }
+
+    /**
+     * Returns the cost factor (log rounds) encoded in a modular crypt hash, such as {@code 10} in {@code $2a$10$...}.
+     * @return the cost factor, or -1 if the hash does not encode one
+     */
+    public int cost() {
+        int start = value.indexOf('$', 1);
+        if (value.charAt(0) != '$' || start < 0 || start + 3 >= value.length() || value.charAt(start + 3) != '$') {
+            return -1;
+        }
+
+        char tens = value.charAt(start + 1);
+        char units = value.charAt(start + 2);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') return -1;
+
+        return (tens - '0') * 10 + (units - '0');
+    }
+
     @Override
     public String toString() {
         return "PasswordHash[PROTECTED]";
     }
-}
\ No newline at end of file
+}
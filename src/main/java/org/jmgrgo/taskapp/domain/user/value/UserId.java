@@ -2,6 +2,7 @@ package org.jmgrgo.taskapp.domain.user.value;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A Value Object representing a unique identifier for a User.
@@ -9,6 +10,8 @@ import java.util.UUID;
  */
 public record UserId(UUID value) {
 
+    private static final int CANONICAL_LENGTH = 36;
+
     public UserId {
 
         // Enforce NonNull input
@@ -16,20 +19,33 @@ public record UserId(UUID value) {
     }
 
     /**
-     * Generates a new random UserId.
+     * Generates a new time-ordered UserId (UUID version 7).
+     * <p>
+     * The first 48 bits hold the Unix time in milliseconds, so ids generated close in time sort
+     * close together. The remaining 74 bits come from the calling thread's {@link ThreadLocalRandom},
+     * which avoids contention between threads. Ids are unique, not secret.
      * @return the generated UserId
      */
     public static UserId newId() {
-        return new UserId(UUID.randomUUID());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0fff);
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UserId(new UUID(mostSigBits, leastSigBits));
     }
 
     /**
-     * Creates a UserId from a raw UUID string.
+     * Creates a UserId from a canonical UUID string ({@code 8-4-4-4-12} hex digits).
      * @throws IllegalArgumentException if the string is not a valid UUID format.
      * @throws NullPointerException if the value is null.
      */
     public static UserId fromString(String value) {
-        return new UserId(UUID.fromString(value));
+        Objects.requireNonNull(value, "UserId must not be null");
+
+        UUID uuid = parse(value);
+        if (uuid == null) {
+            throw new IllegalArgumentException("Invalid UserId format");
+        }
+        return new UserId(uuid);
     }
 
     /**
@@ -42,18 +58,55 @@ public record UserId(UUID value) {
         // If the uuid is null
         if (value == null) return false;
 
-        try {
-            // Parse raw string to UUID
-            UUID.fromString(value);
+        return parse(value) != null;
+    }
+
+    /**
+     * Parses a canonical UUID string without throwing.
+     * @return the parsed UUID, or null if the string is not a canonical UUID
+     */
+    private static UUID parse(String value) {
+        if (value.length() != CANONICAL_LENGTH
+                || value.charAt(8) != '-' || value.charAt(13) != '-'
+                || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            return null;
+        }
+
+        long timeLow = parseHex(value, 0, 8);
+        long timeMid = parseHex(value, 9, 13);
+        long timeHigh = parseHex(value, 14, 18);
+        long clockSeq = parseHex(value, 19, 23);
+        long node = parseHex(value, 24, 36);
+        if ((timeLow | timeMid | timeHigh | clockSeq | node) < 0) {
+            return null;
+        }
+        return new UUID(timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node);
+    }
 
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+    /**
+     * @return the value of the hex digits in {@code value[start, end)}, or -1 if one is not a hex digit
+     */
+    private static long parseHex(String value, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            result = result << 4 | digit;
         }
+        return result;
     }
 
     @Override
     public String toString() {
         return value.toString();
     }
-}
\ No newline at end of file
+}
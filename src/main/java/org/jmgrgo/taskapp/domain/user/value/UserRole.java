@@ -1,8 +1,78 @@
 package org.jmgrgo.taskapp.domain.user.value;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Defines the roles that can be assigned to a user.
+ * <p>
+ * A set of roles is represented as a bitmask with one bit per role. The bits are part of the
+ * stored user rows and of issued tokens, so a role keeps its bit forever and new roles take the
+ * next free one.
  */
 public enum UserRole {
-    USER, PREMIUM, ADMIN
+    USER(1), PREMIUM(1 << 1), ADMIN(1 << 2);
+
+    /**
+     * The mask with every role set.
+     */
+    public static final int ALL = USER.bit | PREMIUM.bit | ADMIN.bit;
+
+    // Unmodifiable role sets for every mask, so turning a mask back into a set never allocates
+    private static final Set<UserRole>[] SETS = roleSets();
+
+    private final int bit;
+
+    UserRole(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * @return whether this role is set in {@code mask}
+     */
+    public boolean isIn(int mask) {
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * @return the mask with the bits of {@code roles} set
+     */
+    public static int toMask(Collection<UserRole> roles) {
+        int mask = 0;
+        for (UserRole role : roles) {
+            mask |= role.bit;
+        }
+        return mask;
+    }
+
+    /**
+     * @return the unmodifiable set of the roles set in {@code mask}
+     * @throws IllegalArgumentException if {@code mask} has bits of no role
+     */
+    public static Set<UserRole> fromMask(int mask) {
+        if ((mask & ~ALL) != 0) {
+            throw new IllegalArgumentException("Unknown role bits: " + Integer.toBinaryString(mask));
+        }
+        return SETS[mask];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<UserRole>[] roleSets() {
+        Set<UserRole>[] sets = new Set[ALL + 1];
+        for (int mask = 0; mask <= ALL; mask++) {
+            EnumSet<UserRole> roles = EnumSet.noneOf(UserRole.class);
+            for (UserRole role : values()) {
+                if (role.isIn(mask)) {
+                    roles.add(role);
+                }
+            }
+            sets[mask] = Set.copyOf(roles);
+        }
+        return sets;
+    }
 }
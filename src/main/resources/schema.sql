@@ -0,0 +1,77 @@
+CREATE TABLE IF NOT EXISTS users (
+    id                    UUID                        NOT NULL,
+    email                 VARCHAR(320)                NOT NULL,
+    email_verified        BOOLEAN                     NOT NULL DEFAULT FALSE,
+    email_updated_at      TIMESTAMP(6) WITH TIME ZONE,
+    password_hash         VARCHAR(255),
+    password_updated_at   TIMESTAMP(6) WITH TIME ZONE,
+    status                VARCHAR(16)                 NOT NULL,
+    roles                 INT                         NOT NULL DEFAULT 0,
+    failed_login_attempts INT                         NOT NULL DEFAULT 0,
+    account_locked_until  TIMESTAMP(6) WITH TIME ZONE,
+    created_at            TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at            TIMESTAMP(6) WITH TIME ZONE,
+    last_login_at         TIMESTAMP(6) WITH TIME ZONE,
+    last_active_at        TIMESTAMP(6) WITH TIME ZONE,
+    deleted_at            TIMESTAMP(6) WITH TIME ZONE,
+    version               BIGINT                      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id           UUID                        NOT NULL,
+    user_id      UUID                        NOT NULL,
+    title        VARCHAR(200)                NOT NULL,
+    due_date     DATE                        NOT NULL,
+    tag_id       UUID,
+    completed    BOOLEAN                     NOT NULL DEFAULT FALSE,
+    completed_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Keyset pagination indexes: the filter columns first, then the (due_date, id) page order
+CREATE INDEX IF NOT EXISTS ix_tasks_user_due ON tasks (user_id, due_date, id);
+CREATE INDEX IF NOT EXISTS ix_tasks_user_completed_due ON tasks (user_id, completed, due_date, id);
+CREATE INDEX IF NOT EXISTS ix_tasks_user_tag_due ON tasks (user_id, tag_id, due_date, id);
+
+-- Open tasks by due date, scanned to rebuild the overdue schedule on startup
+CREATE INDEX IF NOT EXISTS ix_tasks_open_due ON tasks (completed, due_date);
+
+-- The overdue schedule's single row: the last due date notified, and the instance leasing the schedule
+CREATE TABLE IF NOT EXISTS overdue_schedule (
+    id            INT                         NOT NULL,
+    fired_through DATE                        NOT NULL,
+    owner         VARCHAR(36),
+    lease_until   TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_overdue_schedule PRIMARY KEY (id)
+);
+
+-- User events waiting for the relay, written in the transaction of the change that raised them
+CREATE TABLE IF NOT EXISTS user_event_outbox (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type         VARCHAR(32)                 NOT NULL,
+    user_id      UUID                        NOT NULL,
+    occurred_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    email        VARCHAR(320),
+    locked_until TIMESTAMP(6) WITH TIME ZONE,
+    attempts     INT                         NOT NULL DEFAULT 0,
+    CONSTRAINT pk_user_event_outbox PRIMARY KEY (id)
+);
+
+-- User events the relay gave up on: failed too often, or of a type this version does not know
+CREATE TABLE IF NOT EXISTS user_event_dead_letter (
+    id           BIGINT                      NOT NULL,
+    type         VARCHAR(32)                 NOT NULL,
+    user_id      UUID                        NOT NULL,
+    occurred_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    email        VARCHAR(320),
+    locked_until TIMESTAMP(6) WITH TIME ZONE,
+    attempts     INT                         NOT NULL,
+    failed_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    error        VARCHAR(1000),
+    CONSTRAINT pk_user_event_dead_letter PRIMARY KEY (id)
+);
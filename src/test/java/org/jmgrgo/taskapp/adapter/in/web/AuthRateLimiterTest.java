@@ -0,0 +1,45 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.jmgrgo.taskapp.application.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keys client addresses so that one IPv6 subscriber cannot take a bucket per address.
+ */
+class AuthRateLimiterTest {
+
+    private final long[] now = {0};
+
+    @Test
+    void keysIpv6AddressesByTheirPrefix() {
+        assertEquals("2001:db8:1:2::/64", AuthRateLimiter.addressKey("2001:db8:1:2:aaaa:bbbb:cccc:dddd"));
+        assertEquals("2001:db8:1:2::/64", AuthRateLimiter.addressKey("2001:0DB8:0001:0002::1"));
+        assertEquals("0:0:0:0::/64", AuthRateLimiter.addressKey("::1"));
+        assertEquals("192.0.2.1", AuthRateLimiter.addressKey("192.0.2.1"));
+        assertEquals("192.0.2.1", AuthRateLimiter.addressKey("::ffff:192.0.2.1"));
+        assertEquals("not:an-address", AuthRateLimiter.addressKey("not:an-address"));
+    }
+
+    @Test
+    void addressesOfOnePrefixShareABucket() {
+        AuthRateLimiter limiter = new AuthRateLimiter(
+                new TokenBucketRateLimiter(2, Duration.ofSeconds(1), 100, () -> now[0]), null);
+
+        limiter.acquire("2001:db8:1:2::1", null);
+        limiter.acquire("2001:db8:1:2::2", null);
+        RateLimitExceededException rejected = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire("2001:db8:1:2:ffff::3", null));
+        assertEquals(Duration.ofSeconds(1), rejected.getRetryAfter());
+
+        // The neighbouring prefix and IPv4 clients keep their own buckets
+        limiter.acquire("2001:db8:1:3::1", null);
+        limiter.acquire("192.0.2.1", null);
+        limiter.acquire("192.0.2.2", null);
+        limiter.acquire("192.0.2.2", null);
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire("192.0.2.2", null));
+    }
+}
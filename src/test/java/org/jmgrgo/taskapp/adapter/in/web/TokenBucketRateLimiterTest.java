@@ -0,0 +1,69 @@
+package org.jmgrgo.taskapp.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the buckets with a fake clock: bursts, refills, and a map that runs out of room.
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final long INTERVAL = Duration.ofMillis(100).toNanos();
+
+    // Starts just below the largest value, so the clock wraps around as System.nanoTime may
+    private final long[] now = {Long.MAX_VALUE - 50 * INTERVAL};
+
+    @Test
+    void allowsABurstThenOneAttemptPerInterval() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofNanos(INTERVAL), 10, () -> now[0]);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        assertEquals(INTERVAL, limiter.tryAcquire("client"));
+
+        now[0] += INTERVAL / 4;
+        assertEquals(INTERVAL * 3 / 4, limiter.tryAcquire("client"));
+
+        now[0] += INTERVAL * 3 / 4;
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(INTERVAL, limiter.tryAcquire("client"));
+
+        // An idle bucket refills up to its capacity and no further
+        now[0] += 100 * INTERVAL;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        assertTrue(limiter.tryAcquire("client") > 0);
+        assertEquals(0, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    void turnsAwayOnlyNewKeysWhenEveryBucketIsInUse() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, Duration.ofNanos(INTERVAL), 2, () -> now[0]);
+        assertEquals(0, limiter.tryAcquire("first"));
+        assertEquals(0, limiter.tryAcquire("second"));
+
+        // A flood of new keys is turned away, and takes nothing from the tracked ones
+        for (int i = 0; i < 100; i++) {
+            assertEquals(2 * INTERVAL, limiter.tryAcquire("flood" + i));
+        }
+        assertEquals(100, limiter.untracked());
+        assertEquals(2, limiter.size());
+        assertEquals(0, limiter.tryAcquire("first"));
+        assertEquals(0, limiter.tryAcquire("second"));
+
+        // Once the second bucket is full again it is dropped to make room
+        now[0] += INTERVAL;
+        assertEquals(0, limiter.tryAcquire("first"));
+        now[0] += INTERVAL;
+        assertEquals(0, limiter.tryAcquire("new"));
+        assertEquals(2, limiter.size());
+        assertEquals(0, limiter.tryAcquire("first"));
+        assertTrue(limiter.tryAcquire("another") > 0);
+        assertEquals(101, limiter.untracked());
+    }
+}
@@ -0,0 +1,83 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.UserRole;
+import org.jmgrgo.taskapp.support.InMemoryUserRepository;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fills a small filter past its size and checks that it is rebuilt, and only then.
+ */
+class BloomFilteredUserRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T08:15:00Z");
+    private static final int EXPECTED_INSERTIONS = 100;
+
+    private final List<String> registered = new ArrayList<>();
+    private final InMemoryUserRepository delegate = new InMemoryUserRepository() {
+        @Override
+        public User insert(User user) {
+            User inserted = super.insert(user);
+            registered.add(inserted.getEmail().value());
+            return inserted;
+        }
+    };
+    private int scans;
+
+    // Rebuilds run on the saving thread, so each one has finished when the save returns
+    private final BloomFilteredUserRepository repository = new BloomFilteredUserRepository(delegate, action -> {
+        scans++;
+        registered.forEach(action);
+    }, EXPECTED_INSERTIONS, 0.01, Runnable::run);
+
+    @Test
+    void rebuildsTheFilterOnceItHoldsMoreEmailsThanItWasSizedFor() {
+        assertEquals(1, scans);
+
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            repository.insert(user("user" + i + "@example.com"));
+        }
+        assertEquals(1, scans);
+        assertTrue(repository.load() <= 1.0);
+
+        for (int i = EXPECTED_INSERTIONS; i < 3 * EXPECTED_INSERTIONS; i++) {
+            repository.insert(user("user" + i + "@example.com"));
+            assertTrue(repository.load() <= 1.0, "The filter was left saturated at " + repository.load());
+        }
+        assertTrue(scans > 1);
+
+        // Every registered email survives the rebuilds
+        for (String email : registered) {
+            assertTrue(repository.mightBeRegistered(email), email);
+        }
+    }
+
+    @Test
+    void savingAKnownUserAgainDoesNotFillTheFilter() {
+        repository.insert(user("jane@example.com"));
+        double load = repository.load();
+
+        for (int i = 0; i < 3 * EXPECTED_INSERTIONS; i++) {
+            User user = delegate.findByEmail("jane@example.com");
+            user.recordFailedLogin(NOW.plusSeconds(i), Duration.ofMinutes(15));
+            repository.save(user);
+        }
+        assertEquals(load, repository.load());
+        assertEquals(1, scans);
+    }
+
+    private static User user(String email) {
+        return User.create(EmailAddress.fromString(email), new PlainTextPasswordHasher().hash("password"),
+                Set.of(UserRole.USER), NOW);
+    }
+}
@@ -0,0 +1,76 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.UserRole;
+import org.jmgrgo.taskapp.support.InMemoryUserRepository;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Races two saves of one user so the older write refreshes the cache last.
+ */
+class CachingUserRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T08:15:00Z");
+    private static final String EMAIL = "jane@example.com";
+
+    @Test
+    void keepsTheLaterVersionWhenSavesRefreshOutOfOrder() throws Exception {
+        CountDownLatch stored = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryUserRepository delegate = new InMemoryUserRepository() {
+            @Override
+            public User save(User user) {
+                User saved = super.save(user);
+
+                // Hold the first save between its write and its cache refresh
+                if (saved.getVersion() == 1) {
+                    stored.countDown();
+                    await(release);
+                }
+                return saved;
+            }
+        };
+        CachingUserRepository repository = new CachingUserRepository(delegate, 100, Duration.ofMinutes(5));
+        repository.insert(User.create(EmailAddress.fromString(EMAIL), new PlainTextPasswordHasher().hash("password"),
+                Set.of(UserRole.USER), NOW));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            User first = repository.findByEmail(EMAIL);
+            first.recordFailedLogin(NOW, Duration.ofMinutes(15));
+            Future<?> firstSave = executor.submit(() -> repository.save(first));
+            assertTrue(stored.await(10, TimeUnit.SECONDS));
+
+            User second = delegate.findByEmail(EMAIL);
+            second.lock(NOW.plusSeconds(1), Duration.ofMinutes(15));
+            repository.save(second);
+
+            release.countDown();
+            firstSave.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        User cached = repository.findByEmail(EMAIL);
+        assertEquals(2, cached.getVersion());
+        assertTrue(cached.isLocked(NOW.plusSeconds(2)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("Not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
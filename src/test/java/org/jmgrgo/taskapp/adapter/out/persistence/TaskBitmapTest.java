@@ -0,0 +1,156 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the bitmap against {@link BitSet} on random updates and set operations, with chunks
+ * crossing the array and bitmap container threshold in both directions.
+ */
+class TaskBitmapTest {
+
+    // Chunks of 65536 values the random values fall in, including neighbours and a gap
+    private static final int[] CHUNKS = {0, 1, 2, 7};
+
+    @Test
+    void matchesBitSetOnRandomUpdates() {
+        Random random = new Random(42);
+        TaskBitmap bitmap = new TaskBitmap();
+        BitSet expected = new BitSet();
+
+        for (int round = 0; round < 200; round++) {
+
+            // Fill or drain a window of one chunk, small enough to stay an array or wide enough to turn dense
+            int chunk = CHUNKS[random.nextInt(CHUNKS.length)];
+            int window = 1 << (6 + random.nextInt(11));
+            int start = (chunk << 16) + random.nextInt(65536 - window + 1);
+            double addRatio = random.nextDouble();
+            int operations = random.nextInt(2 * window);
+            for (int i = 0; i < operations; i++) {
+                int value = start + random.nextInt(window);
+                if (random.nextDouble() < addRatio) {
+                    bitmap.add(value);
+                    expected.set(value);
+                } else {
+                    bitmap.remove(value);
+                    expected.clear(value);
+                }
+            }
+            assertSameValues(expected, bitmap, random);
+        }
+    }
+
+    @Test
+    void crossesTheContainerThresholdBothWays() {
+        TaskBitmap bitmap = new TaskBitmap();
+        BitSet expected = new BitSet();
+
+        for (int value = 0; value <= 4097; value++) {
+            bitmap.add(value * 3);
+            expected.set(value * 3);
+        }
+        assertSameValues(expected, bitmap, new Random(1));
+
+        for (int value = 4097; value >= 0; value--) {
+            bitmap.remove(value * 3);
+            expected.clear(value * 3);
+            if (value % 1024 == 0 || value >= 4095) {
+                assertSameValues(expected, bitmap, new Random(value));
+            }
+        }
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    void setOperationsMatchBitSetWithoutChangingOperands() {
+        Random random = new Random(7);
+        for (int round = 0; round < 100; round++) {
+            BitSet leftValues = randomValues(random);
+            BitSet rightValues = randomValues(random);
+            TaskBitmap left = toBitmap(leftValues);
+            TaskBitmap right = toBitmap(rightValues);
+
+            BitSet and = (BitSet) leftValues.clone();
+            and.and(rightValues);
+            assertSameValues(and, left.and(right), random);
+
+            BitSet or = (BitSet) leftValues.clone();
+            or.or(rightValues);
+            assertSameValues(or, left.or(right), random);
+
+            BitSet andNot = (BitSet) leftValues.clone();
+            andNot.andNot(rightValues);
+            assertSameValues(andNot, left.andNot(right), random);
+
+            assertSameValues(leftValues, left, random);
+            assertSameValues(rightValues, right, random);
+        }
+    }
+
+    @Test
+    void handlesTheEmptySetAndTheLargestValue() {
+        TaskBitmap empty = new TaskBitmap();
+        empty.remove(5);
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.cardinality());
+        empty.forEach(value -> fail("Empty bitmap visited " + value));
+
+        TaskBitmap bitmap = new TaskBitmap();
+        bitmap.add(Integer.MAX_VALUE);
+        bitmap.add(0);
+        assertTrue(bitmap.contains(Integer.MAX_VALUE));
+        assertFalse(bitmap.contains(Integer.MAX_VALUE - 1));
+        assertEquals(List.of(0, Integer.MAX_VALUE), values(bitmap));
+        assertTrue(bitmap.and(empty).isEmpty());
+        assertEquals(List.of(0, Integer.MAX_VALUE), values(bitmap.or(empty)));
+        assertEquals(List.of(0, Integer.MAX_VALUE), values(bitmap.andNot(empty)));
+        assertTrue(empty.andNot(bitmap).isEmpty());
+    }
+
+    /**
+     * @return values spread over the chunks, each chunk sparse, dense or absent
+     */
+    private static BitSet randomValues(Random random) {
+        BitSet values = new BitSet();
+        for (int chunk : CHUNKS) {
+            int count = switch (random.nextInt(4)) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(100);
+                case 2 -> 3000 + random.nextInt(2000);
+                default -> 20_000 + random.nextInt(40_000);
+            };
+            for (int i = 0; i < count; i++) {
+                values.set((chunk << 16) + random.nextInt(65536));
+            }
+        }
+        return values;
+    }
+
+    private static TaskBitmap toBitmap(BitSet values) {
+        TaskBitmap bitmap = new TaskBitmap();
+        values.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+
+    private static List<Integer> values(TaskBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private static void assertSameValues(BitSet expected, TaskBitmap bitmap, Random random) {
+        assertEquals(expected.stream().boxed().toList(), values(bitmap), "forEach visits the values in order");
+        assertEquals(expected.cardinality(), bitmap.cardinality(), "cardinality");
+        assertEquals(expected.isEmpty(), bitmap.isEmpty(), "isEmpty");
+        for (int i = 0; i < 1000; i++) {
+            int value = (CHUNKS[random.nextInt(CHUNKS.length)] << 16) + random.nextInt(65536);
+            assertEquals(expected.get(value), bitmap.contains(value), () -> "contains(" + value + ")");
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
+import org.jmgrgo.taskapp.application.exception.UserUpdateConflictException;
+import org.jmgrgo.taskapp.application.port.out.UserEventHandler;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.event.*;
+import org.jmgrgo.taskapp.domain.user.value.EmailAddress;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.jmgrgo.taskapp.domain.user.value.UserRole;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stores users with their events against the JDBC adapters, and drains the outbox with the relay.
+ */
+class UserEventOutboxTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T08:15:00Z");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transactions;
+    private JdbcUserEventOutbox outbox;
+    private JdbcUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:user-event-outbox;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+
+        NamedParameterJdbcTemplate namedJdbc = new NamedParameterJdbcTemplate(dataSource);
+        transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        outbox = new JdbcUserEventOutbox(namedJdbc);
+        repository = new JdbcUserRepository(namedJdbc, transactions, outbox);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void eventsAreStoredIfAndOnlyIfTheirChangeIs() {
+        User user = repository.insert(newUser("jane@example.com"));
+        assertEquals(List.of("UserRegistered"), storedTypes());
+
+        // A rejected insert stores no event either
+        assertThrows(EmailAlreadyExistsException.class, () -> repository.insert(newUser("jane@example.com")));
+        assertEquals(List.of("UserRegistered"), storedTypes());
+
+        User first = repository.findByEmail("jane@example.com");
+        User second = repository.findByEmail("jane@example.com");
+        first.lock(NOW, Duration.ofMinutes(15));
+        repository.save(first);
+        assertEquals(List.of("UserRegistered", "AccountLocked"), storedTypes());
+
+        // The losing save rolls its event back with its row
+        second.delete(NOW);
+        assertThrows(UserUpdateConflictException.class, () -> repository.save(second));
+        assertEquals(List.of("UserRegistered", "AccountLocked"), storedTypes());
+
+        repository.recordLogin(user.getId(), NOW.plusSeconds(1));
+        assertEquals(List.of("UserRegistered", "AccountLocked", "LoginSucceeded"), storedTypes());
+    }
+
+    @Test
+    void writeBehindLoginsStoreEveryEventWithTheFlush() throws Exception {
+        User user = repository.insert(newUser("jane@example.com"));
+        try (WriteBehindLoginActivityRecorder recorder =
+                     new WriteBehindLoginActivityRecorder(repository, Duration.ofHours(1), 100)) {
+            recorder.recordLogin(user.getId(), NOW.plusSeconds(1));
+            recorder.recordLogin(user.getId(), NOW.plusSeconds(2));
+
+            // Logins write nothing until the flush
+            assertEquals(List.of("UserRegistered"), storedTypes());
+            assertNull(repository.findByEmail("jane@example.com").getLastLoginAt());
+
+            recorder.flush();
+            assertEquals(List.of("UserRegistered", "LoginSucceeded", "LoginSucceeded"), storedTypes());
+            assertEquals(NOW.plusSeconds(2), repository.findByEmail("jane@example.com").getLastLoginAt());
+
+            // A flush that fails keeps the events for the next one
+            recorder.recordLogin(user.getId(), NOW.plusSeconds(3));
+            jdbc.execute("ALTER TABLE user_event_outbox RENAME TO user_event_outbox_hidden");
+            recorder.flush();
+            jdbc.execute("ALTER TABLE user_event_outbox_hidden RENAME TO user_event_outbox");
+            assertEquals(NOW.plusSeconds(2), repository.findByEmail("jane@example.com").getLastLoginAt());
+
+            recorder.flush();
+            assertEquals(List.of("UserRegistered", "LoginSucceeded", "LoginSucceeded", "LoginSucceeded"), storedTypes());
+            assertEquals(NOW.plusSeconds(3), repository.findByEmail("jane@example.com").getLastLoginAt());
+        }
+    }
+
+    @Test
+    void redeliversAnEventAfterAHandlerFailure() {
+        repository.insert(newUser("jane@example.com"));
+        List<UserEvent> handled = new CopyOnWriteArrayList<>();
+        int[] calls = {0};
+        UserEventRelay relay = relay(1, 10, event -> {
+            if (calls[0]++ == 0) throw new IllegalStateException("Handler unavailable");
+            handled.add(event);
+        });
+
+        relay.poll();
+        assertTrue(handled.isEmpty());
+        assertEquals(1, jdbc.queryForObject("SELECT attempts FROM user_event_outbox", Integer.class));
+
+        relay.poll();
+        assertEquals(1, handled.size());
+        assertInstanceOf(UserRegistered.class, handled.getFirst());
+        assertEquals(List.of(), storedTypes());
+    }
+
+    @Test
+    void deadLettersUnreadableAndRepeatedlyFailingEvents() {
+        UserId failingUser = repository.insert(newUser("failing@example.com")).getId();
+        jdbc.update("INSERT INTO user_event_outbox (type, user_id, occurred_at) VALUES ('PasswordReset', ?, ?)",
+                UserId.newId().value(), OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC));
+        repository.insert(newUser("jane@example.com"));
+
+        List<UserEvent> handled = new CopyOnWriteArrayList<>();
+        UserEventRelay relay = relay(10, 2, event -> {
+            if (event.userId().equals(failingUser)) throw new IllegalStateException("Always fails");
+            handled.add(event);
+        });
+
+        // The failing event holds the batch back until it runs out of attempts
+        relay.poll();
+        assertTrue(handled.isEmpty());
+        relay.poll();
+        assertEquals(1, handled.size());
+
+        assertEquals(List.of(), storedTypes());
+        assertEquals(List.of("UserRegistered", "PasswordReset"),
+                jdbc.queryForList("SELECT type FROM user_event_dead_letter ORDER BY id", String.class));
+        assertEquals(2, jdbc.queryForObject(
+                "SELECT attempts FROM user_event_dead_letter WHERE type = 'UserRegistered'", Integer.class));
+    }
+
+    @Test
+    void concurrentRelaysNeverDeliverTheSameEvent() throws Exception {
+        repository.insert(newUser("first@example.com"));
+        repository.insert(newUser("second@example.com"));
+
+        // The first relay holds its claim on the first event until released
+        List<UserEvent> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserEventRelay blocked = relay(1, 10, event -> {
+            claimed.countDown();
+            await(release);
+            handled.add(event);
+        });
+        UserEventRelay other = relay(1, 10, handled::add);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> blockedPoll = executor.submit(blocked::poll);
+            assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+            other.poll();
+            assertEquals(1, handled.size());
+
+            release.countDown();
+            blockedPoll.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, handled.size());
+        assertEquals(2, handled.stream().map(UserEvent::userId).distinct().count());
+        assertEquals(List.of(), storedTypes());
+    }
+
+    private UserEventRelay relay(int batchSize, int maxAttempts, UserEventHandler handler) {
+        return new UserEventRelay(outbox, transactions, List.of(handler), () -> NOW, Duration.ofSeconds(1),
+                batchSize, maxAttempts, new SimpleMeterRegistry());
+    }
+
+    private List<String> storedTypes() {
+        return jdbc.queryForList("SELECT type FROM user_event_outbox ORDER BY id", String.class);
+    }
+
+    private static User newUser(String email) {
+        return User.create(EmailAddress.fromString(email), new PlainTextPasswordHasher().hash("password"),
+                Set.of(UserRole.USER), NOW);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("Not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
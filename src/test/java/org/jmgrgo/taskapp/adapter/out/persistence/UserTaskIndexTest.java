@@ -0,0 +1,229 @@
+package org.jmgrgo.taskapp.adapter.out.persistence;
+
+import org.jmgrgo.taskapp.application.port.out.TaskPageQuery;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TagId;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks pages selected from the index against filtering and sorting every task of the user.
+ */
+class UserTaskIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T08:15:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final UserId OWNER = UserId.newId();
+    private static final List<TagId> TAGS = List.of(
+            new TagId(new UUID(0, 1)), new TagId(new UUID(0, 2)), new TagId(new UUID(0, 3)));
+
+    // The order of the database: due date, then id as an unsigned 128-bit number
+    private static final Comparator<Task> PAGE_ORDER = Comparator.comparing(Task::getDueDate)
+            .thenComparing(task -> task.getId().value(), UserTaskIndexTest::compareUnsigned);
+
+    @Test
+    void matchesAFilteredSortOnRandomUpdatesAndQueries() {
+        Random random = new Random(42);
+        UserTaskIndex index = new UserTaskIndex();
+        Map<TaskId, Task> tasks = new HashMap<>();
+        List<TaskId> ids = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || ids.isEmpty()) {
+                Task task = randomTask(random, new TaskId(new UUID(random.nextLong(), random.nextLong())));
+                ids.add(task.getId());
+                tasks.put(task.getId(), task);
+                index.put(task.toBuilder().build());
+            } else if (operation < 8) {
+                Task task = randomTask(random, ids.get(random.nextInt(ids.size())));
+                tasks.put(task.getId(), task);
+                index.put(task.toBuilder().build());
+            } else {
+                TaskId id = ids.remove(random.nextInt(ids.size()));
+                tasks.remove(id);
+                index.remove(id);
+            }
+
+            if (i % 100 == 99) {
+                assertEquals(tasks.size(), index.size());
+                for (int q = 0; q < 20; q++) {
+                    assertSamePages(tasks.values(), index, randomQuery(random, tasks));
+                }
+            }
+        }
+    }
+
+    @Test
+    void ordersIdsOfTheSameDueDateAsUnsignedNumbers() {
+        UserTaskIndex index = new UserTaskIndex();
+        Task negative = task(new UUID(-1, 0), TODAY);
+        Task small = task(new UUID(1, 0), TODAY);
+        Task large = task(new UUID(Long.MAX_VALUE, 0), TODAY);
+        Task earlier = task(new UUID(-1, -1), TODAY.minusDays(1));
+        Stream.of(negative, small, large, earlier).forEach(index::put);
+
+        assertEquals(List.of(earlier.getId(), small.getId(), large.getId(), negative.getId()),
+                index.select(query(null, Set.of(), null, null, null, null, 10)));
+        assertEquals(List.of(large.getId(), negative.getId()),
+                index.select(query(null, Set.of(), null, null, TODAY, small.getId(), 10)));
+        assertEquals(List.of(negative.getId()),
+                index.select(query(null, Set.of(), null, null, TODAY, large.getId(), 10)));
+    }
+
+    @Test
+    void appliesEveryFilter() {
+        UserTaskIndex index = new UserTaskIndex();
+        Task open = task(new UUID(0, 1), TODAY);
+        Task done = task(new UUID(0, 2), TODAY.plusDays(1)).toBuilder().completed(true).completedAt(NOW).build();
+        Task tagged = task(new UUID(0, 3), TODAY.plusDays(2)).toBuilder().tagId(TAGS.get(0)).build();
+        Task otherTag = task(new UUID(0, 4), TODAY.plusDays(3)).toBuilder().tagId(TAGS.get(1)).build();
+        Stream.of(open, done, tagged, otherTag).forEach(index::put);
+
+        assertEquals(List.of(done.getId()), index.select(query(true, Set.of(), null, null, null, null, 10)));
+        assertEquals(List.of(open.getId(), tagged.getId(), otherTag.getId()),
+                index.select(query(false, Set.of(), null, null, null, null, 10)));
+        assertEquals(List.of(tagged.getId(), otherTag.getId()),
+                index.select(query(null, Set.copyOf(TAGS), null, null, null, null, 10)));
+        assertEquals(List.of(), index.select(query(null, Set.of(TAGS.get(2)), null, null, null, null, 10)));
+        assertEquals(List.of(done.getId(), tagged.getId()),
+                index.select(query(null, Set.of(), TODAY.plusDays(1), TODAY.plusDays(2), null, null, 10)));
+        assertEquals(List.of(open.getId(), done.getId()), index.select(query(null, Set.of(), null, null, null, null, 2)));
+
+        // Updates move the task between the filters
+        index.put(tagged.toBuilder().tagId(TAGS.get(1)).completed(true).build());
+        assertEquals(List.of(), index.select(query(null, Set.of(TAGS.get(0)), null, null, null, null, 10)));
+        assertEquals(List.of(done.getId(), tagged.getId()), index.select(query(true, Set.of(), null, null, null, null, 10)));
+        assertEquals(List.of(tagged.getId(), otherTag.getId()),
+                index.select(query(null, Set.of(TAGS.get(1)), null, null, null, null, 10)));
+    }
+
+    @Test
+    void reusesTheOrdinalsOfRemovedTasks() {
+        UserTaskIndex index = new UserTaskIndex();
+        List<Task> removed = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Task task = task(new UUID(0, i), TODAY.plusDays(i)).toBuilder().tagId(TAGS.get(i % 2)).completed(i % 3 == 0).build();
+            index.put(task);
+            removed.add(task);
+        }
+        int weight = index.weight();
+        removed.forEach(task -> index.remove(task.getId()));
+        assertEquals(0, index.size());
+
+        // New tasks take the freed ordinals without inheriting their tags or completion
+        List<Task> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Task task = task(new UUID(1, i), TODAY.minusDays(i));
+            index.put(task);
+            added.add(task);
+        }
+        assertEquals(100, index.size());
+        assertTrue(index.weight() <= weight, "New tasks reuse the arrays sized for the removed ones");
+        assertEquals(List.of(), index.select(query(null, Set.copyOf(TAGS), null, null, null, null, 200)));
+        assertEquals(List.of(), index.select(query(true, Set.of(), null, null, null, null, 200)));
+        assertEquals(added.stream().sorted(PAGE_ORDER).map(Task::getId).toList(),
+                index.select(query(false, Set.of(), null, null, null, null, 200)));
+    }
+
+    /**
+     * Asserts the query's page, and every page after it, match the sorted tasks.
+     */
+    private static void assertSamePages(Collection<Task> tasks, UserTaskIndex index, TaskPageQuery query) {
+        List<TaskId> expected = tasks.stream()
+                .filter(task -> matches(task, query))
+                .sorted(PAGE_ORDER)
+                .map(Task::getId)
+                .toList();
+
+        List<TaskId> selected = new ArrayList<>();
+        TaskPageQuery page = query;
+        while (true) {
+            List<TaskId> ids = index.select(page);
+            assertTrue(ids.size() <= query.limit(), () -> "Page over the limit: " + query);
+            selected.addAll(ids);
+            if (ids.size() < query.limit()) break;
+
+            Task last = tasks.stream().filter(task -> task.getId().equals(ids.getLast())).findFirst().orElseThrow();
+            page = query(query.completed(), query.tagIds(), query.dueFrom(), query.dueTo(),
+                    last.getDueDate(), last.getId(), query.limit());
+        }
+        assertEquals(expected, selected, () -> "Pages of " + query);
+    }
+
+    private static boolean matches(Task task, TaskPageQuery query) {
+        if (query.completed() != null && task.isCompleted() != query.completed()) return false;
+        if (!query.tagIds().isEmpty() && (task.getTagId() == null || !query.tagIds().contains(task.getTagId()))) return false;
+        if (query.dueFrom() != null && task.getDueDate().isBefore(query.dueFrom())) return false;
+        if (query.dueTo() != null && task.getDueDate().isAfter(query.dueTo())) return false;
+        if (query.afterDueDate() == null) return true;
+
+        int byDate = task.getDueDate().compareTo(query.afterDueDate());
+        return byDate > 0 || byDate == 0 && compareUnsigned(task.getId().value(), query.afterId().value()) > 0;
+    }
+
+    private static TaskPageQuery randomQuery(Random random, Map<TaskId, Task> tasks) {
+        Boolean completed = switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> true;
+            default -> false;
+        };
+        Set<TagId> tagIds = new HashSet<>();
+        for (TagId tagId : TAGS) {
+            if (random.nextInt(3) == 0) tagIds.add(tagId);
+        }
+        LocalDate dueFrom = random.nextBoolean() ? null : randomDate(random);
+        LocalDate dueTo = random.nextBoolean() ? null : randomDate(random);
+
+        // Start from an arbitrary position half the time, an indexed task or none
+        LocalDate afterDueDate = null;
+        TaskId afterId = null;
+        if (random.nextBoolean() && !tasks.isEmpty()) {
+            Task after = random.nextBoolean()
+                    ? tasks.values().stream().skip(random.nextInt(tasks.size())).findFirst().orElseThrow()
+                    : randomTask(random, new TaskId(new UUID(random.nextLong(), random.nextLong())));
+            afterDueDate = after.getDueDate();
+            afterId = after.getId();
+        }
+        return query(completed, tagIds, dueFrom, dueTo, afterDueDate, afterId, 1 + random.nextInt(random.nextBoolean() ? 5 : 200));
+    }
+
+    private static Task randomTask(Random random, TaskId id) {
+        boolean completed = random.nextInt(3) == 0;
+        return task(id.value(), randomDate(random)).toBuilder()
+                .tagId(random.nextInt(4) == 0 ? null : TAGS.get(random.nextInt(TAGS.size())))
+                .completed(completed)
+                .completedAt(completed ? NOW : null)
+                .build();
+    }
+
+    // Few distinct dates, so pages often split between tasks due the same day
+    private static LocalDate randomDate(Random random) {
+        return TODAY.plusDays(random.nextInt(15) - 5);
+    }
+
+    private static Task task(UUID id, LocalDate dueDate) {
+        return Task.create(OWNER, TaskTitle.fromString("Task"), dueDate, null, NOW).toBuilder()
+                .id(new TaskId(id))
+                .build();
+    }
+
+    private static TaskPageQuery query(Boolean completed, Set<TagId> tagIds, LocalDate dueFrom, LocalDate dueTo,
+                                       LocalDate afterDueDate, TaskId afterId, int limit) {
+        return new TaskPageQuery(OWNER, completed, tagIds, dueFrom, dueTo, afterDueDate, afterId, limit);
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
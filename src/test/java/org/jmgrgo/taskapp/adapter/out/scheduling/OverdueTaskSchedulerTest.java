@@ -0,0 +1,308 @@
+package org.jmgrgo.taskapp.adapter.out.scheduling;
+
+import org.jmgrgo.taskapp.adapter.out.persistence.OpenTasks;
+import org.jmgrgo.taskapp.adapter.out.persistence.OverdueWatermark;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.TaskOverdueNotifier;
+import org.jmgrgo.taskapp.domain.task.Task;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.task.value.TaskTitle;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the scheduler with a fake clock, ticking by hand, over fake open tasks and watermark.
+ */
+class OverdueTaskSchedulerTest {
+
+    private static final Instant START = Instant.parse("2026-03-10T08:15:00Z");
+    private static final LocalDate TODAY = LocalDate.parse("2026-03-10");
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final FakeClock clock = new FakeClock(START);
+    private final RecordingNotifier notifier = new RecordingNotifier();
+    private final FakeOpenTasks openTasks = new FakeOpenTasks();
+    private final FakeWatermark watermark = new FakeWatermark(TODAY.minusDays(1));
+    private final OverdueTaskScheduler scheduler = scheduler(openTasks);
+    private final UserId ownerId = UserId.newId();
+
+    @Test
+    void firesAtTheStartOfTheDayAfterTheDueDate() {
+        Task task = task(TODAY);
+        scheduler.track(task);
+
+        clock.set(Instant.parse("2026-03-10T23:59:59.999Z"));
+        scheduler.tick();
+        assertTrue(notifier.overdue.isEmpty());
+
+        clock.set(Instant.parse("2026-03-11T00:00:00Z"));
+        scheduler.tick();
+        assertEquals(List.of(task.getId()), notifier.overdue);
+
+        // Fires once
+        clock.advance(Duration.ofDays(3));
+        scheduler.tick();
+        assertEquals(1, notifier.overdue.size());
+        assertEquals(0, scheduler.scheduled());
+    }
+
+    @Test
+    void completingOrDeletingCancels() {
+        Task completed = task(TODAY);
+        Task deleted = task(TODAY);
+        scheduler.track(completed);
+        scheduler.track(deleted);
+
+        scheduler.track(completed.toBuilder().completed(true).build());
+        scheduler.untrack(deleted.getId());
+
+        clock.advance(Duration.ofDays(2));
+        scheduler.tick();
+        assertTrue(notifier.overdue.isEmpty());
+    }
+
+    @Test
+    void reschedulingMovesTheTimer() {
+        Task task = task(TODAY);
+        scheduler.track(task);
+        scheduler.track(task.toBuilder().dueDate(TODAY.plusDays(30)).build());
+
+        clock.set(Instant.parse("2026-04-09T12:00:00Z"));
+        scheduler.tick();
+        assertTrue(notifier.overdue.isEmpty());
+
+        clock.set(Instant.parse("2026-04-10T00:00:00Z"));
+        scheduler.tick();
+        assertEquals(List.of(task.getId()), notifier.overdue);
+    }
+
+    @Test
+    void tasksSavedAlreadyOverdueAreNotNotified() {
+        scheduler.track(task(TODAY.minusDays(1)));
+
+        clock.advance(Duration.ofDays(1));
+        scheduler.tick();
+        assertTrue(notifier.overdue.isEmpty());
+        assertEquals(0, scheduler.scheduled());
+    }
+
+    @Test
+    void recoversOpenTasksFromTheDatabaseScan() {
+        Task dueToday = task(TODAY);
+        Task dueNextYear = task(TODAY.plusYears(1));
+        List<LocalDate> scannedFrom = new ArrayList<>();
+        OverdueTaskScheduler scheduler = scheduler((from, to, action) -> {
+            if (to != null) return;
+            scannedFrom.add(from);
+            action.accept(dueToday);
+            action.accept(dueNextYear);
+        });
+        scheduler.recover();
+
+        assertEquals(List.of(TODAY), scannedFrom);
+        assertEquals(2, scheduler.scheduled());
+
+        clock.set(Instant.parse("2027-03-11T00:00:00Z"));
+        scheduler.tick();
+        assertEquals(List.of(dueToday.getId(), dueNextYear.getId()), notifier.overdue);
+    }
+
+    @Test
+    void firesEveryTaskOnTimeAcrossAllLevels() {
+        Random random = new Random(17);
+        Map<TaskId, LocalDate> dueDates = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+
+            // From tomorrow to ten years ahead, so timers start on every level of the wheel
+            LocalDate dueDate = TODAY.plusDays(random.nextInt(3_650));
+            Task task = task(dueDate);
+            dueDates.put(task.getId(), dueDate);
+            scheduler.track(task);
+        }
+
+        // Tick at irregular intervals, checking nothing fires early or late
+        Set<TaskId> fired = new HashSet<>();
+        Instant end = Instant.parse("2036-03-12T00:00:00Z");
+        while (clock.now().isBefore(end)) {
+            clock.advance(Duration.ofHours(1 + random.nextInt(100)));
+            int before = notifier.overdue.size();
+            scheduler.tick();
+
+            LocalDate today = LocalDate.ofInstant(clock.now(), ZoneOffset.UTC);
+            for (TaskId taskId : notifier.overdue.subList(before, notifier.overdue.size())) {
+                assertTrue(dueDates.get(taskId).isBefore(today), "Fired early");
+                fired.add(taskId);
+            }
+            for (Map.Entry<TaskId, LocalDate> entry : dueDates.entrySet()) {
+                if (entry.getValue().isBefore(today)) {
+                    assertTrue(fired.contains(entry.getKey()), "Fired late");
+                }
+            }
+        }
+
+        assertEquals(dueDates.size(), notifier.overdue.size());
+        assertEquals(dueDates.size(), fired.size());
+        assertEquals(0, scheduler.scheduled());
+    }
+
+    @Test
+    void notifiesTasksThatBecameOverdueWhileNobodyHeldTheSchedule() {
+        watermark.firedThrough = TODAY.minusDays(4);
+        Task notifiedBeforeTheCrash = openTasks.save(task(TODAY.minusDays(4)));
+        Task missed = openTasks.save(task(TODAY.minusDays(3)));
+        Task missedYesterday = openTasks.save(task(TODAY.minusDays(1)));
+        openTasks.save(task(TODAY.minusDays(2)).toBuilder().completed(true).build());
+        Task dueToday = openTasks.save(task(TODAY));
+
+        scheduler.recover();
+        scheduler.tick();
+        assertEquals(List.of(missed.getId(), missedYesterday.getId()), notifier.overdue);
+        assertFalse(notifier.overdue.contains(notifiedBeforeTheCrash.getId()));
+        assertEquals(TODAY.minusDays(1), watermark.firedThrough);
+
+        clock.set(Instant.parse("2026-03-11T00:00:00Z"));
+        scheduler.tick();
+        assertEquals(List.of(missed.getId(), missedYesterday.getId(), dueToday.getId()), notifier.overdue);
+        assertEquals(TODAY, watermark.firedThrough);
+    }
+
+    @Test
+    void onlyTheLeaseHolderNotifiesTasksSavedOnAnyInstance() {
+        OverdueTaskScheduler other = scheduler(openTasks);
+        Task savedHere = openTasks.save(task(TODAY));
+        Task savedThere = openTasks.save(task(TODAY));
+        scheduler.track(savedHere);
+        other.track(savedThere);
+
+        clock.set(Instant.parse("2026-03-11T00:00:00Z"));
+        scheduler.tick();
+        other.tick();
+        assertEquals(Set.of(savedHere.getId(), savedThere.getId()), Set.copyOf(notifier.overdue));
+        assertEquals(2, notifier.overdue.size());
+
+        // The owner stops renewing, and the other instance takes over once the lease has run out
+        String firstOwner = watermark.owner;
+        clock.set(Instant.parse("2026-03-11T00:00:20Z"));
+        other.tick();
+        assertEquals(firstOwner, watermark.owner);
+        clock.set(Instant.parse("2026-03-11T00:00:40Z"));
+        other.tick();
+        assertNotEquals(firstOwner, watermark.owner);
+
+        Task dueTomorrow = openTasks.save(task(TODAY.plusDays(1)));
+        clock.set(Instant.parse("2026-03-12T00:00:00Z"));
+        other.tick();
+        assertEquals(List.of(dueTomorrow.getId()), notifier.overdue.subList(2, notifier.overdue.size()));
+        assertEquals(TODAY.plusDays(1), watermark.firedThrough);
+    }
+
+    private OverdueTaskScheduler scheduler(OpenTasks openTasks) {
+        return new OverdueTaskScheduler(clock, notifier, openTasks, watermark, Duration.ofSeconds(1), LEASE);
+    }
+
+    private Task task(LocalDate dueDate) {
+        return Task.create(ownerId, TaskTitle.fromString("Task"), dueDate, null, START);
+    }
+
+    private static final class FakeClock implements Clock {
+
+        private Instant now;
+
+        private FakeClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant now() {
+            return now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    /**
+     * The open tasks of every instance, as the database holds them.
+     */
+    private static final class FakeOpenTasks implements OpenTasks {
+
+        private final Map<TaskId, Task> tasks = new LinkedHashMap<>();
+
+        Task save(Task task) {
+            tasks.put(task.getId(), task);
+            return task;
+        }
+
+        @Override
+        public void forEachDue(LocalDate from, LocalDate to, Consumer<Task> action) {
+            tasks.values().stream()
+                    .filter(task -> !task.isCompleted() && !task.getDueDate().isBefore(from))
+                    .filter(task -> to == null || !task.getDueDate().isAfter(to))
+                    .sorted(Comparator.comparing(Task::getDueDate))
+                    .forEach(action);
+        }
+    }
+
+    private static final class FakeWatermark implements OverdueWatermark {
+
+        private LocalDate firedThrough;
+        private String owner;
+        private Instant leaseUntil;
+
+        private FakeWatermark(LocalDate firedThrough) {
+            this.firedThrough = firedThrough;
+        }
+
+        @Override
+        public boolean acquire(String owner, Instant now, Instant leaseUntil) {
+            if (this.owner != null && !this.owner.equals(owner) && !this.leaseUntil.isBefore(now)) return false;
+
+            this.owner = owner;
+            this.leaseUntil = leaseUntil;
+            return true;
+        }
+
+        @Override
+        public LocalDate firedThrough() {
+            return firedThrough;
+        }
+
+        @Override
+        public void advance(String owner, LocalDate dueDate) {
+            if (owner.equals(this.owner) && dueDate.isAfter(firedThrough)) {
+                firedThrough = dueDate;
+            }
+        }
+
+        @Override
+        public void release(String owner) {
+            if (owner.equals(this.owner)) {
+                this.owner = null;
+            }
+        }
+    }
+
+    private static final class RecordingNotifier implements TaskOverdueNotifier {
+
+        private final List<TaskId> overdue = new ArrayList<>();
+
+        @Override
+        public void taskOverdue(UserId ownerId, TaskId taskId, LocalDate dueDate) {
+            overdue.add(taskId);
+        }
+    }
+}
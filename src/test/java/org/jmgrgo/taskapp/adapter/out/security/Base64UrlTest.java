@@ -0,0 +1,71 @@
+package org.jmgrgo.taskapp.adapter.out.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the codec against {@link Base64}, and that each byte sequence has exactly one accepted encoding.
+ */
+class Base64UrlTest {
+
+    private static final Base64.Encoder REFERENCE = Base64.getUrlEncoder().withoutPadding();
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    @Test
+    void matchesTheJdkEncoderAndDecodesBack() {
+        Random random = new Random(42);
+        for (int length = 0; length <= 64; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+
+            byte[] encoded = new byte[Base64Url.encodedLength(length)];
+            assertEquals(encoded.length, Base64Url.encode(bytes, 0, length, encoded, 0));
+            String text = new String(encoded, StandardCharsets.US_ASCII);
+            assertEquals(REFERENCE.encodeToString(bytes), text);
+
+            byte[] decoded = new byte[length];
+            assertTrue(Base64Url.decode(text, 0, text.length(), decoded), text);
+            assertArrayEquals(bytes, decoded);
+        }
+    }
+
+    @Test
+    void rejectsNonZeroBitsPastTheLastByte() {
+        Random random = new Random(7);
+        for (int length = 1; length <= 8; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String canonical = REFERENCE.encodeToString(bytes);
+
+            // Every other last character either decodes to other bytes or sets bits past the last byte
+            String prefix = canonical.substring(0, canonical.length() - 1);
+            for (char last : ALPHABET.toCharArray()) {
+                String candidate = prefix + last;
+                byte[] decoded = new byte[length];
+                boolean accepted = Base64Url.decode(candidate, 0, candidate.length(), decoded);
+                if (candidate.equals(canonical)) {
+                    assertTrue(accepted, candidate);
+                } else {
+                    assertFalse(accepted && Arrays.equals(bytes, decoded), candidate + " also decodes to " + canonical);
+                }
+            }
+        }
+        assertFalse(Base64Url.decode("QR", 0, 2, new byte[1]));
+        assertFalse(Base64Url.decode("QUF", 0, 3, new byte[2]));
+    }
+
+    @Test
+    void rejectsOtherCharactersAndLengths() {
+        assertFalse(Base64Url.decode("QUE=", 0, 4, new byte[2]));
+        assertFalse(Base64Url.decode("QU+", 0, 3, new byte[2]));
+        assertFalse(Base64Url.decode("QU\u00e9", 0, 3, new byte[2]));
+        assertFalse(Base64Url.decode("QUE", 0, 3, new byte[3]));
+        assertTrue(Base64Url.decode("xQUEx", 1, 4, new byte[2]));
+    }
+}
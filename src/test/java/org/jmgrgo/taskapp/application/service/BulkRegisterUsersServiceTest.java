@@ -0,0 +1,85 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.application.dto.BulkRegisterUsersResult;
+import org.jmgrgo.taskapp.application.dto.BulkRegistrationError;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.exception.PasswordHashingUnavailableException;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+import org.jmgrgo.taskapp.support.InMemoryUserRepository;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Imports that cannot be registered in full: hashing failing partway, and imports over the limits.
+ */
+class BulkRegisterUsersServiceTest {
+
+    private static final String PASSWORD = "correct-horse-battery";
+
+    private final InMemoryUserRepository repository = new InMemoryUserRepository();
+
+    @Test
+    void reportsTheRestOfTheImportWhenHashingBecomesUnavailable() {
+
+        // The first chunk hashes, the second finds the executor saturated
+        PlainTextPasswordHasher hasher = new PlainTextPasswordHasher() {
+            private int batches;
+
+            @Override
+            public List<PasswordHash> hashAll(List<String> rawPasswords) {
+                if (++batches > 1) throw new PasswordHashingUnavailableException("Password hashing is saturated");
+                return super.hashAll(rawPasswords);
+            }
+        };
+        BulkRegisterUsersService service = new BulkRegisterUsersService(repository, hasher, Instant::now, 2, 100, 100);
+
+        List<RegisterUserCommand> commands = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            commands.add(new RegisterUserCommand("user" + i + "@example.com", PASSWORD));
+        }
+        commands.add(new RegisterUserCommand("not-an-email", PASSWORD));
+        BulkRegisterUsersResult result = service.registerUsers(commands.iterator());
+
+        assertEquals(7, result.received());
+        assertEquals(2, result.registered());
+        assertEquals(2, repository.size());
+        assertEquals(5, result.failed());
+        assertEquals(List.of(3, 4, 5, 6, 7), result.errors().stream().map(BulkRegistrationError::record).toList());
+        assertEquals("Password hashing unavailable, not registered", result.errors().getFirst().message());
+        assertEquals("Invalid email format", result.errors().getLast().message());
+    }
+
+    @Test
+    void stopsReadingAtTheRecordLimitAndListsTheFirstErrors() {
+        BulkRegisterUsersService service = new BulkRegisterUsersService(
+                repository, new PlainTextPasswordHasher(), Instant::now, 2, 5, 2);
+
+        // Every record is invalid, and the import never ends
+        int[] read = {0};
+        Iterator<RegisterUserCommand> commands = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public RegisterUserCommand next() {
+                return new RegisterUserCommand("user" + ++read[0], PASSWORD);
+            }
+        };
+        BulkRegisterUsersResult result = service.registerUsers(commands);
+
+        assertEquals(5, read[0]);
+        assertEquals(5, result.received());
+        assertEquals(0, result.registered());
+        assertEquals(6, result.failed());
+        assertEquals(List.of(1, 2), result.errors().stream().map(BulkRegistrationError::record).toList());
+    }
+}
@@ -0,0 +1,128 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcTaskRepository;
+import org.jmgrgo.taskapp.application.dto.ExportTasksQuery;
+import org.jmgrgo.taskapp.application.dto.TaskResult;
+import org.jmgrgo.taskapp.domain.task.value.TaskId;
+import org.jmgrgo.taskapp.domain.user.value.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports a million tasks as NDJSON through the JDBC adapter, the way the export endpoint does.
+ * <p>
+ * Run with {@code mvn -Plarge-tests test}: the profile enables this test and caps the heap far
+ * below what the exported tasks would take if they were held in memory. The database is file
+ * based so the table itself does not count against the heap.
+ */
+@EnabledIfSystemProperty(named = "taskapp.large-tests", matches = "true")
+class ExportTasksServiceLargeTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @TempDir
+    Path directory;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private ExportTasksService service;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:file:" + directory.resolve("export") + ";CACHE_SIZE=8192");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        service = new ExportTasksService(new JdbcTaskRepository(new NamedParameterJdbcTemplate(dataSource)), Instant::now);
+
+        userId = UserId.newId();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbc.update("INSERT INTO users (id, email, status, created_at) VALUES (?, 'export@example.com', 'ACTIVE', ?)",
+                userId.value(), now);
+
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new Object[] {TaskId.newId().value(), userId.value(), "Task " + i,
+                    Date.valueOf(start.plusDays(i % 1000)), now, now});
+            if (rows.size() == BATCH_SIZE) {
+                jdbc.batchUpdate("""
+                        INSERT INTO tasks (id, user_id, title, due_date, completed, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, FALSE, ?, ?)
+                        """, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP ALL OBJECTS DELETE FILES");
+    }
+
+    @Test
+    void exportsEveryTaskInDueDateOrderWithinABoundedHeap() {
+        CountingOutputStream out = new CountingOutputStream();
+        int[] exported = new int[1];
+        LocalDate[] previousDueDate = {LocalDate.MIN};
+
+        try (SequenceWriter writer = JsonMapper.builder().build()
+                .writerFor(TaskResult.class).withRootValueSeparator("\n").writeValues(out)) {
+            service.exportTasks(new ExportTasksQuery(userId.value()), task -> {
+                assertFalse(task.dueDate().isBefore(previousDueDate[0]), "Out of order");
+                previousDueDate[0] = task.dueDate();
+                exported[0]++;
+                writer.write(task);
+            });
+        }
+
+        assertEquals(TASKS, exported[0]);
+        assertEquals(TASKS - 1, out.newlines);
+        assertTrue(out.bytes > TASKS * 100L);
+    }
+
+    /**
+     * Discards the export, keeping only its size.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long newlines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') newlines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') newlines++;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcUserRepository;
+import org.jmgrgo.taskapp.adapter.out.security.StripedLoginFailureTracker;
+import org.jmgrgo.taskapp.application.dto.LoginUserCommand;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.exception.UserUpdateConflictException;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Logs in to one account from many threads at once against the JDBC adapter. Every login rewrites
+ * the account, so nearly every save races another one and only the version check keeps them apart.
+ */
+class LoginUserServiceContentionTest {
+
+    private static final int THREADS = 64;
+    private static final int LOGINS_PER_THREAD = 50;
+    private static final String EMAIL = "contended@example.com";
+    private static final String PASSWORD = "password";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private LoginUserService service;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:login-contention;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+
+        JdbcUserRepository repository = new JdbcUserRepository(
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+
+        // Every stored hash needs an upgrade, so every login is written through
+        PlainTextPasswordHasher passwordHasher = new PlainTextPasswordHasher() {
+            @Override
+            public boolean needsRehash(PasswordHash hash) {
+                return true;
+            }
+        };
+        new RegisterUserService(repository, passwordHasher, Instant::now)
+                .registerUser(new RegisterUserCommand(EMAIL, PASSWORD));
+        service = new LoginUserService(repository, passwordHasher, passwordHasher, user -> "token",
+                (userId, at) -> { }, new StripedLoginFailureTracker(64, 4096, Instant::now), Instant::now);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void loginsOnOneAccountNeverLoseAnUpdate() throws Exception {
+        LongAdder succeeded = new LongAdder();
+        LongAdder conflicted = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> workers = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int login = 0; login < LOGINS_PER_THREAD; login++) {
+                    try {
+                        service.loginUser(new LoginUserCommand(EMAIL, PASSWORD));
+                        succeeded.increment();
+                    } catch (UserUpdateConflictException e) {
+                        conflicted.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        String outcome = String.format("%d threads, %d logins on one account: %.0f logins/s, %d gave up after repeated conflicts",
+                THREADS, THREADS * LOGINS_PER_THREAD, succeeded.sum() / seconds, conflicted.sum());
+
+        // Each successful login saved exactly once, on top of the version it read
+        assertEquals(THREADS * LOGINS_PER_THREAD, succeeded.sum() + conflicted.sum(), outcome);
+        assertTrue(succeeded.sum() > 0, "no login succeeded; " + outcome);
+        assertEquals(succeeded.sum(), jdbc.queryForObject("SELECT version FROM users WHERE email = ?", Long.class, EMAIL), outcome);
+    }
+}
@@ -0,0 +1,74 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.adapter.out.security.StripedLoginFailureTracker;
+import org.jmgrgo.taskapp.application.dto.LoginUserCommand;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.exception.InvalidCredentialsException;
+import org.jmgrgo.taskapp.application.port.out.Clock;
+import org.jmgrgo.taskapp.application.port.out.PasswordMatchVerifier;
+import org.jmgrgo.taskapp.domain.user.User;
+import org.jmgrgo.taskapp.domain.user.exception.UserIsLockedException;
+import org.jmgrgo.taskapp.support.InMemoryUserRepository;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Locks an account and checks that no password, right or wrong, is checked against it until the lock ends.
+ */
+class LoginUserServiceLockTest {
+
+    private static final String EMAIL = "jane@example.com";
+    private static final String PASSWORD = "correct-horse-battery";
+    private static final String WRONG_PASSWORD = "wrong-horse-battery";
+
+    private final Instant[] now = {Instant.parse("2026-03-10T08:15:00Z")};
+    private final Clock clock = () -> now[0];
+    private final InMemoryUserRepository repository = new InMemoryUserRepository();
+    private final PlainTextPasswordHasher passwordHasher = new PlainTextPasswordHasher();
+    private int verifications;
+
+    @Test
+    void rejectsLockedAccountsBeforeCheckingThePassword() {
+        new RegisterUserService(repository, passwordHasher, clock).registerUser(new RegisterUserCommand(EMAIL, PASSWORD));
+        LoginUserService service = service();
+
+        for (int i = 0; i < User.MAX_FAILED_LOGIN_ATTEMPTS; i++) {
+            assertThrows(InvalidCredentialsException.class, () -> login(service, WRONG_PASSWORD));
+        }
+        assertTrue(repository.findByEmail(EMAIL).isLocked(now[0]));
+        assertEquals(User.MAX_FAILED_LOGIN_ATTEMPTS, verifications);
+
+        // The lock in memory answers alike whatever the password, without hashing it
+        assertThrows(UserIsLockedException.class, () -> login(service, WRONG_PASSWORD));
+        assertThrows(UserIsLockedException.class, () -> login(service, PASSWORD));
+
+        // Another instance only knows the stored lock, and answers the same
+        LoginUserService restarted = service();
+        assertThrows(UserIsLockedException.class, () -> login(restarted, WRONG_PASSWORD));
+        assertThrows(UserIsLockedException.class, () -> login(restarted, PASSWORD));
+        assertEquals(User.MAX_FAILED_LOGIN_ATTEMPTS, verifications, "A locked account reached the verifier");
+
+        // Attempts during the lock did not extend it
+        now[0] = now[0].plus(Duration.ofMinutes(15));
+        login(service, PASSWORD);
+        assertFalse(repository.findByEmail(EMAIL).isLocked(now[0]));
+    }
+
+    private LoginUserService service() {
+        PasswordMatchVerifier countingVerifier = (rawPassword, hash) -> {
+            verifications++;
+            return passwordHasher.matches(rawPassword, hash);
+        };
+        return new LoginUserService(repository, countingVerifier, passwordHasher, user -> "token",
+                (userId, at) -> { }, new StripedLoginFailureTracker(4, 16, clock), clock);
+    }
+
+    private static void login(LoginUserService service, String password) {
+        service.loginUser(new LoginUserCommand(EMAIL, password));
+    }
+}
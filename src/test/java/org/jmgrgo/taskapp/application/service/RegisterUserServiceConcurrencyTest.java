@@ -0,0 +1,88 @@
+package org.jmgrgo.taskapp.application.service;
+
+import org.jmgrgo.taskapp.adapter.out.persistence.JdbcUserRepository;
+import org.jmgrgo.taskapp.application.dto.RegisterUserCommand;
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
+import org.jmgrgo.taskapp.support.PlainTextPasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registers the same email from many threads at once against the JDBC adapter, where only the
+ * unique email constraint stands between them.
+ */
+class RegisterUserServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 20;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private RegisterUserService service;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:register-concurrency;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+
+        JdbcUserRepository repository = new JdbcUserRepository(
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        service = new RegisterUserService(repository, new PlainTextPasswordHasher(), Instant::now);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void registersEachEmailExactlyOnce() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            String email = "user" + round + "@example.com";
+            CountDownLatch start = new CountDownLatch(1);
+
+            List<Future<Boolean>> attempts = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.registerUser(new RegisterUserCommand(email, "password"));
+                        return true;
+                    } catch (EmailAlreadyExistsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int registered = 0;
+            for (Future<Boolean> attempt : attempts) {
+                if (attempt.get(10, TimeUnit.SECONDS)) registered++;
+            }
+            assertEquals(1, registered, "successful registrations of " + email);
+        }
+
+        assertEquals(ROUNDS, jdbc.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+        assertEquals(ROUNDS, jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE roles = 1", Integer.class));
+    }
+}
@@ -0,0 +1,78 @@
+package org.jmgrgo.taskapp.domain.user.value;
+
+import org.jmgrgo.taskapp.domain.user.exception.InvalidEmailFormatException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the single-pass scanner against the regular expression it replaced.
+ */
+class EmailAddressTest {
+
+    // The previous validation: trim, lower-case, then match
+    private static final Pattern LEGACY_PATTERN =
+            Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,63}$", Pattern.CASE_INSENSITIVE);
+
+    private static final String ALPHABET = "aZz09._%+-@ \t.-@Kk\u212a\u00e9\u0130!#";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "jane@example.com", "Jane.Doe@Example.COM", "  jane@example.com\t", "a@b.cd", "a@b.c", "a@b.c0m",
+            "jane+tasks@mail.example.co.uk", "j%a_n.e-@ex-ample.org", "@example.com", "jane@", "jane@example",
+            "jane@.com", "jane@a..com", "jane@@example.com", "jane@exa_mple.com", "ja ne@example.com",
+            "jane@example.c", "jane@example.comm", "jane@example.123", "jane@example.c-m", "jane.example.com",
+            "jane@example.com.", "jane@-.io", "JANE@EXAMPLE.IO", "j\u00e9@example.com", "jane@\u212aelvin.com",
+            "\u212aate@example.com", "jane@example.\u0130o", "", " ", "jane@example." + "a".repeat(63),
+            "jane@example." + "a".repeat(64), "jane@example.com\u0000", "\u0000jane@example.com"
+    })
+    void matchesLegacyValidation(String email) {
+        assertEquivalent(email);
+    }
+
+    @Test
+    void matchesLegacyValidationOnRandomInput() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder email = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                email.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertEquivalent(email.toString());
+            assertEquivalent(email + ".com");
+            assertEquivalent("jane@" + email + ".io");
+        }
+    }
+
+    @Test
+    void keepsAlreadyNormalizedInstance() {
+        String email = "jane.doe@example.com";
+        assertSame(email, EmailAddress.fromString(email).value());
+    }
+
+    @Test
+    void rejectsInvalidFormat() {
+        assertThrows(InvalidEmailFormatException.class, () -> EmailAddress.fromString("jane@example"));
+        assertThrows(NullPointerException.class, () -> EmailAddress.fromString(null));
+        assertFalse(EmailAddress.isValid(null));
+    }
+
+    private static void assertEquivalent(String email) {
+        String legacy = email.trim().toLowerCase(Locale.ROOT);
+        boolean legacyValid = !legacy.isBlank() && LEGACY_PATTERN.matcher(legacy).matches();
+
+        assertEquals(legacyValid, EmailAddress.isValid(email), () -> "isValid(\"" + email + "\")");
+        if (legacyValid) {
+            assertEquals(legacy, EmailAddress.fromString(email).value(), () -> "fromString(\"" + email + "\")");
+        } else {
+            assertThrows(InvalidEmailFormatException.class, () -> EmailAddress.fromString(email), () -> "fromString(\"" + email + "\")");
+        }
+    }
+}
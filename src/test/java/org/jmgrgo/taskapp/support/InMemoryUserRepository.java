@@ -0,0 +1,60 @@
+package org.jmgrgo.taskapp.support;
+
+import org.jmgrgo.taskapp.application.exception.EmailAlreadyExistsException;
+import org.jmgrgo.taskapp.application.exception.UserUpdateConflictException;
+import org.jmgrgo.taskapp.application.port.out.UserRepository;
+import org.jmgrgo.taskapp.domain.user.User;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link UserRepository} keeping copies of saved users in memory, keyed by normalized email.
+ * Saves are version checked like the JDBC adapter's.
+ */
+public class InMemoryUserRepository implements UserRepository {
+
+    private final Map<String, User> usersByEmail = new ConcurrentHashMap<>();
+
+    @Override
+    public User save(User user) {
+        if (!user.hasChanges()) return user;
+
+        long version = usersByEmail.compute(user.getEmail().value(), (email, stored) -> {
+            if (stored == null) return user.toBuilder().build();
+            if (stored.getVersion() != user.getVersion()) {
+                throw new UserUpdateConflictException("User was modified concurrently");
+            }
+            return user.toBuilder().version(user.getVersion() + 1).build();
+        }).getVersion();
+        user.markStored(version);
+        return user;
+    }
+
+    @Override
+    public User insert(User user) {
+        if (usersByEmail.putIfAbsent(user.getEmail().value(), user.toBuilder().build()) != null) {
+            throw new EmailAlreadyExistsException("Email Already In Use");
+        }
+        return user;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return usersByEmail.containsKey(email);
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        User user = usersByEmail.get(email);
+        return user == null ? null : user.toBuilder().build();
+    }
+
+    public int size() {
+        return usersByEmail.size();
+    }
+
+    public void clear() {
+        usersByEmail.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package org.jmgrgo.taskapp.support;
+
+import org.jmgrgo.taskapp.application.port.out.PasswordHasher;
+import org.jmgrgo.taskapp.application.port.out.PasswordMatchVerifier;
+import org.jmgrgo.taskapp.domain.user.value.PasswordHash;
+
+/**
+ * Non-hashing {@link PasswordHasher} producing BCrypt-shaped values, to exercise the services without BCrypt's cost.
+ */
+public class PlainTextPasswordHasher implements PasswordHasher, PasswordMatchVerifier {
+
+    private static final String PREFIX = "$2a$10$";
+    private static final int HASH_LENGTH = 60;
+
+    @Override
+    public PasswordHash hash(String rawPassword) {
+        StringBuilder value = new StringBuilder(Math.max(HASH_LENGTH, PREFIX.length() + rawPassword.length() + 1))
+                .append(PREFIX).append(rawPassword).append('$');
+        while (value.length() < HASH_LENGTH) {
+            value.append('.');
+        }
+        return PasswordHash.fromString(value.toString());
+    }
+
+    @Override
+    public boolean needsRehash(PasswordHash hash) {
+        return false;
+    }
+
+    @Override
+    public boolean matches(String rawPassword, PasswordHash hash) {
+        String value = hash.value();
+        return value.startsWith(rawPassword, PREFIX.length())
+                && value.charAt(PREFIX.length() + rawPassword.length()) == '$';
+    }
+}
@@ -0,0 +1,117 @@
+package org.jmgrgo.taskapp;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Training run for the JVM AOT cache, kept out of the application jar: the startup build runs it
+ * from source with the JDK's source launcher.
+ * <p>
+ * Starts the application in a JVM of its own, with the given options and the class path it will be
+ * started from again, which the cache requires. Once the server accepts connections, registers users
+ * and logs them in over HTTP, so the classes and methods of the authentication path are loaded,
+ * linked and profiled, then stops the application; its JVM writes the cache as it exits.
+ * <pre>
+ * java StartupTrainingRun.java &lt;users&gt; &lt;logins per user&gt; &lt;application JVM arguments&gt;...
+ * </pre>
+ * Each user also fails one login. Fails, and so fails the build, if any request is not answered as
+ * expected.
+ */
+public final class StartupTrainingRun {
+
+    private static final String PASSWORD = "Training-Password-1";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupTrainingRun() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: StartupTrainingRun <users> <logins per user> <application JVM arguments>...");
+        }
+        int users = Integer.parseInt(args[0]);
+        int loginsPerUser = Integer.parseInt(args[1]);
+
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(args).subList(2, args.length));
+        command.add("--server.port=" + port);
+        Process application = new ProcessBuilder(command).inheritIO().start();
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            URI base = URI.create("http://localhost:" + port + "/api/auth/");
+            awaitStartup(client, application, base);
+            for (int i = 0; i < users; i++) {
+                String email = "training-" + UUID.randomUUID() + "@example.com";
+                expect(client, base.resolve("register"), email, PASSWORD, 201);
+                for (int login = 0; login < loginsPerUser; login++) {
+                    expect(client, base.resolve("login"), email, PASSWORD, 200);
+                }
+                expect(client, base.resolve("login"), email, PASSWORD + "-wrong", 401);
+            }
+            System.out.printf("Training run registered %d users and logged each in %d times%n", users, loginsPerUser);
+        } finally {
+
+            // A graceful stop, so the application JVM exits normally and writes the cache
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    /**
+     * Retries registering a first user until the server accepts connections.
+     */
+    private static void awaitStartup(HttpClient client, Process application, URI base) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                expect(client, base.resolve("register"), "training-" + UUID.randomUUID() + "@example.com", PASSWORD, 201);
+                return;
+            } catch (IllegalStateException e) {
+                if (!(e.getCause() instanceof ConnectException)) throw e;
+                if (!application.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Application did not start", e);
+                }
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    private static void expect(HttpClient client, URI uri, String email, String password, int expectedStatus) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            throw new IllegalStateException("POST " + uri.getPath() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during the training run", e);
+        }
+        if (status != expectedStatus) {
+            throw new IllegalStateException("POST " + uri.getPath() + " answered " + status + ", expected " + expectedStatus);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}